@@ -0,0 +1,45 @@
+package com.example.AITools.config;
+
+import com.example.AITools.filter.RequestTimings;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC connection acquisition and statement execution time to the current request's
+ * db phase. Registered for every session via hibernate.session.events.auto.
+ */
+public class DbTimingSessionListener implements SessionEventListener {
+
+    private long acquisitionStart;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTimings.current().addDb(System.nanoTime() - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.current().addDb(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.current().addDb(System.nanoTime() - batchStart);
+    }
+}
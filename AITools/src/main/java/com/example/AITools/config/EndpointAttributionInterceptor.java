@@ -0,0 +1,31 @@
+package com.example.AITools.config;
+
+import com.example.AITools.filter.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records which controller method is handling the request, so the slow-query log can
+ * attribute each statement to its endpoint. Names are built once per method.
+ */
+@Component
+public class EndpointAttributionInterceptor implements HandlerInterceptor {
+
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestTimings.current().setEndpoint(names.computeIfAbsent(handlerMethod.getMethod(),
+                    method -> method.getDeclaringClass().getSimpleName() + "#" + method.getName()));
+        }
+        return true;
+    }
+}
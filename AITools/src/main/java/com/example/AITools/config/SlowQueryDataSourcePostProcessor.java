@@ -0,0 +1,33 @@
+package com.example.AITools.config;
+
+import com.example.AITools.services.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes every DataSource through SlowQueryJdbcProxy, unless aitools.slow-query.enabled is false.
+ */
+@Component
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+    private final boolean enabled;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog,
+                                            @Value("${aitools.slow-query.enabled:true}") boolean enabled) {
+        this.slowQueryLog = slowQueryLog;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource) {
+            return SlowQueryJdbcProxy.wrap(dataSource, slowQueryLog.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.AITools.config;
+
+import com.example.AITools.filter.RequestTimings;
+import com.example.AITools.services.SlowQueryLog;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * JDK-proxy chain DataSource -> Connection -> Statement -> ResultSet that measures every
+ * statement (execution plus fetching the rows) and reports it to the SlowQueryLog when it
+ * finishes, i.e. when its result set or the statement itself is closed.
+ */
+final class SlowQueryJdbcProxy {
+
+    private SlowQueryJdbcProxy() {
+    }
+
+    static DataSource wrap(DataSource dataSource, SlowQueryLog slowQueryLog) {
+        return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection
+                    ? proxy(Connection.class, connection, new ConnectionHandler(connection, slowQueryLog))
+                    : result;
+        });
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final SlowQueryLog slowQueryLog;
+
+        ConnectionHandler(Connection target, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryJdbcProxy.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return switch (method.getName()) {
+                case "prepareCall" -> proxy(CallableStatement.class, result,
+                        new StatementHandler((Statement) result, sql, slowQueryLog));
+                case "prepareStatement" -> proxy(PreparedStatement.class, result,
+                        new StatementHandler((Statement) result, sql, slowQueryLog));
+                case "createStatement" -> proxy(Statement.class, result,
+                        new StatementHandler((Statement) result, null, slowQueryLog));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final SlowQueryLog slowQueryLog;
+        private String sql;
+        private Object[] binds = new Object[8];
+        private int bindCount;
+        // in-flight execution, reported once when its results are done with
+        private boolean pending;
+        private long nanos;
+        private long rows;
+        private String endpoint;
+
+        StatementHandler(Statement target, String sql, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.sql = sql;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+                return SlowQueryJdbcProxy.invoke(target, method, args);
+            }
+            if (name.equals("clearParameters")) {
+                bindCount = 0;
+            }
+            if (!name.startsWith("execute")) {
+                if (name.equals("close")) {
+                    finish();
+                }
+                Object result = SlowQueryJdbcProxy.invoke(target, method, args);
+                if (name.equals("getResultSet") && pending && result instanceof ResultSet resultSet) {
+                    return wrapResultSet(resultSet);
+                }
+                if (name.equals("getUpdateCount") && pending && result instanceof Integer count && count >= 0) {
+                    rows += count;
+                }
+                return result;
+            }
+
+            finish();
+            if (args != null && args.length > 0 && args[0] instanceof String s) {
+                sql = s;
+            }
+            long start = System.nanoTime();
+            Object result = SlowQueryJdbcProxy.invoke(target, method, args);
+            nanos = System.nanoTime() - start;
+            pending = true;
+            endpoint = RequestTimings.current().getEndpoint();
+            if (result instanceof ResultSet resultSet) {
+                rows = 0;
+                return wrapResultSet(resultSet);
+            }
+            if (result instanceof Boolean) {
+                // execute(): results are fetched through getResultSet / getUpdateCount
+                rows = 0;
+                return result;
+            }
+            rows = switch (result) {
+                case Integer count -> count;
+                case Long count -> count;
+                case int[] counts -> Arrays.stream(counts).filter(c -> c > 0).sum();
+                case long[] counts -> Arrays.stream(counts).filter(c -> c > 0).sum();
+                default -> -1;
+            };
+            finish();
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value;
+            bindCount = Math.max(bindCount, index);
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, new ResultSetHandler(resultSet, this));
+        }
+
+        void fetched(long fetchNanos, boolean hasRow) {
+            nanos += fetchNanos;
+            if (hasRow) {
+                rows++;
+            }
+        }
+
+        void finish() {
+            if (!pending) {
+                return;
+            }
+            pending = false;
+            if (slowQueryLog.shouldRecord(nanos)) {
+                slowQueryLog.record(nanos, rows, endpoint != null ? endpoint : Thread.currentThread().getName(),
+                        sql != null ? sql : "<unknown>", binds, bindCount);
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next" -> {
+                    long start = System.nanoTime();
+                    boolean hasRow = (Boolean) SlowQueryJdbcProxy.invoke(target, method, args);
+                    statement.fetched(System.nanoTime() - start, hasRow);
+                    return hasRow;
+                }
+                case "close" -> statement.finish();
+                default -> {
+                }
+            }
+            return SlowQueryJdbcProxy.invoke(target, method, args);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryJdbcProxy.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.AITools.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Logs JVM-start-to-ready time in one greppable line, so startup time can be tracked
+ * across releases and launch modes.
+ */
+@Component
+public class StartupTimeLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeLogger.class);
+
+    private final Environment environment;
+
+    public StartupTimeLogger(Environment environment) {
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupTime() {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        boolean aot = Boolean.getBoolean("spring.aot.enabled");
+        log.info("startup.ready_ms={} aot={} profiles={}",
+                uptimeMillis, aot, Arrays.toString(environment.getActiveProfiles()));
+    }
+}
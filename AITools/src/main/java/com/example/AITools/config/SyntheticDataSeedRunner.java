@@ -0,0 +1,54 @@
+package com.example.AITools.config;
+
+import com.example.AITools.services.SyntheticDataGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Seeds the configured database with synthetic data before the app starts serving, so the
+ * caches and indexes that warm on startup see a realistically sized dataset.
+ * Production-scale example:
+ * ./mvnw spring-boot:run -pl AITools -Dspring-boot.run.profiles=seed
+ *     -Dspring-boot.run.arguments="--aitools.seed.tools=100000 --aitools.seed.reviews=50000000"
+ * All seeded admins log in with aitools.seed.admin-password.
+ */
+@Component
+@Profile("seed")
+public class SyntheticDataSeedRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeedRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final SyntheticDataGenerator.Settings settings;
+
+    public SyntheticDataSeedRunner(JdbcTemplate jdbcTemplate,
+                                   PasswordEncoder passwordEncoder,
+                                   @Value("${aitools.seed.seed:42}") long seed,
+                                   @Value("${aitools.seed.admins:10}") int admins,
+                                   @Value("${aitools.seed.tools:1000}") int tools,
+                                   @Value("${aitools.seed.reviews:100000}") long reviews,
+                                   @Value("${aitools.seed.popularity-skew:1.1}") double popularitySkew,
+                                   @Value("${aitools.seed.history-days:365}") int historyDays,
+                                   @Value("${aitools.seed.anchor:2026-01-01T00:00:00Z}") String anchor,
+                                   @Value("${aitools.seed.batch-size:5000}") int batchSize,
+                                   @Value("${aitools.seed.admin-password:password}") String adminPassword) {
+        this.generator = new SyntheticDataGenerator(jdbcTemplate, passwordEncoder.encode(adminPassword));
+        this.settings = new SyntheticDataGenerator.Settings(
+                seed, admins, tools, reviews, popularitySkew, historyDays, Instant.parse(anchor), batchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Seeding synthetic data: {}", settings);
+        log.info("Synthetic data seeded: {}", generator.generate(settings));
+    }
+}
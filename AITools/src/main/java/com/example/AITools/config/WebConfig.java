@@ -0,0 +1,20 @@
+package com.example.AITools.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final EndpointAttributionInterceptor endpointAttributionInterceptor;
+
+    public WebConfig(EndpointAttributionInterceptor endpointAttributionInterceptor) {
+        this.endpointAttributionInterceptor = endpointAttributionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointAttributionInterceptor);
+    }
+}
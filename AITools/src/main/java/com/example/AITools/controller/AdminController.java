@@ -90,5 +90,24 @@ public class AdminController {
         }
     }
 
+    // Revokes the presented token until it would have expired anyway
+    @PostMapping("/admin/logout")
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        Map<String, String> response = new HashMap<>();
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            response.put("error", "Missing bearer token");
+            return ResponseEntity.badRequest().body(response);
+        }
+        try {
+            jwtService.revokeToken(authHeader.substring(7));
+        } catch (Exception e) {
+            response.put("error", "Invalid token");
+            return ResponseEntity.badRequest().body(response);
+        }
+        response.put("message", "Logout successful");
+        return ResponseEntity.ok(response);
+    }
+
 
 }
@@ -0,0 +1,66 @@
+package com.example.AITools.controller;
+
+import com.example.AITools.services.AdaptiveConcurrencyLimiter;
+import com.example.AITools.services.DbCircuitBreaker;
+import com.example.AITools.services.RequestCoalescer;
+import com.example.AITools.services.RequestTimingStats;
+import com.example.AITools.services.TokenDenylist;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminMetricsController {
+
+    private final RequestTimingStats requestTimingStats;
+    private final RequestCoalescer requestCoalescer;
+    private final DbCircuitBreaker dbCircuitBreaker;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final TokenDenylist tokenDenylist;
+
+    public AdminMetricsController(RequestTimingStats requestTimingStats,
+                                  RequestCoalescer requestCoalescer,
+                                  DbCircuitBreaker dbCircuitBreaker,
+                                  AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                  TokenDenylist tokenDenylist) {
+        this.requestTimingStats = requestTimingStats;
+        this.requestCoalescer = requestCoalescer;
+        this.dbCircuitBreaker = dbCircuitBreaker;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.tokenDenylist = tokenDenylist;
+    }
+
+    // Admin endpoint - per-phase latency histograms since startup
+    @GetMapping("/timings")
+    public ResponseEntity<Map<String, Object>> getTimings() {
+        return ResponseEntity.ok(requestTimingStats.snapshot());
+    }
+
+    // Admin endpoint - how many loads each single-flight collapsed or timed out on
+    @GetMapping("/coalescing")
+    public ResponseEntity<Map<String, Object>> getCoalescingStats() {
+        return ResponseEntity.ok(requestCoalescer.stats());
+    }
+
+    // Admin endpoint - state of the circuit breaker guarding public database reads
+    @GetMapping("/circuit")
+    public ResponseEntity<Map<String, Object>> getCircuitBreaker() {
+        return ResponseEntity.ok(dbCircuitBreaker.stats());
+    }
+
+    // Admin endpoint - current adaptive limit and admitted/shed counts per priority class
+    @GetMapping("/concurrency")
+    public ResponseEntity<Map<String, Object>> getConcurrency() {
+        return ResponseEntity.ok(concurrencyLimiter.stats());
+    }
+
+    // Admin endpoint - size of the in-memory JWT revocation list
+    @GetMapping("/revocations")
+    public ResponseEntity<Map<String, Object>> getRevocations() {
+        return ResponseEntity.ok(tokenDenylist.stats());
+    }
+}
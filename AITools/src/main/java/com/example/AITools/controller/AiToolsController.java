@@ -0,0 +1,230 @@
+package com.example.AITools.controller;
+
+import com.example.AITools.model.Admin;
+import com.example.AITools.model.AiToolFields;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.services.AdminService;
+import com.example.AITools.services.AiToolsService;
+import com.example.AITools.services.ResponseBytesCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/aitools")
+public class AiToolsController {
+
+    private final AiToolsService aiToolsService;
+    private final AdminService adminService;
+    private final ResponseBytesCache responseBytesCache;
+
+    public AiToolsController(AiToolsService aiToolsService,
+                             AdminService adminService,
+                             ResponseBytesCache responseBytesCache) {
+        this.aiToolsService = aiToolsService;
+        this.adminService = adminService;
+        this.responseBytesCache = responseBytesCache;
+    }
+
+    private Long getAuthenticatedAdminId(Authentication authentication) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        String username = userDetails.getUsername();
+        Admin admin = adminService.getAdminByName(username);
+        return admin.getId();
+    }
+
+    /**
+     * Get all tools (Public), served from pre-serialized JSON bytes
+     * GET /api/aitools
+     */
+    @GetMapping
+    public void getAllAiTools(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        responseBytesCache.write(ResponseBytesCache.ALL_TOOLS, aiToolsService::getAllAiTools, request, response);
+    }
+
+    /**
+     * Get all tools (Public) as CBOR or Smile, picked over JSON when Accept prefers them
+     * GET /api/aitools  (Accept: application/cbor or application/x-jackson-smile)
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_CBOR_VALUE, ResponseBytesCache.SMILE_VALUE})
+    public ResponseEntity<List<AiTools>> getAllAiToolsBinary() {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(aiToolsService.getAllAiTools());
+    }
+
+    /**
+     * All tools with only the requested fields, e.g. for list views (Public)
+     * GET /api/aitools?fields=name,category,rating  (id is always included)
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<?> getAllAiToolsFields(@RequestParam String fields) {
+        try {
+            return ResponseEntity.ok(aiToolsService.getAllAiTools(AiToolFields.parse(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Several tools in one call, e.g. for a listing page (Public)
+     * GET /api/aitools?ids=1,2,3  (duplicates dropped, at most aitools.batch.max-ids; fields= works here too)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getAiToolsByIds(@RequestParam List<Long> ids,
+                                             @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(aiToolsService.getAiToolsByIds(ids));
+        }
+        try {
+            return ResponseEntity.ok(aiToolsService.getAiToolsByIds(ids, AiToolFields.parse(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Tools created, updated or deleted since a change version (Public)
+     * GET /api/aitools/changes?since=<version>&limit=
+     * Start with no since; then pass back nextSince until hasMore is false.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Map<String, Object>> getChanges(
+            @RequestParam(defaultValue = "-1") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(aiToolsService.getChangesSince(since, Math.max(1, Math.min(limit, 1000))));
+    }
+
+    /**
+     * Trending this week: ranked by recent approved-review volume and rating
+     * GET /api/aitools/trending?limit=10
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<Map<String, Object>>> getTrendingAiTools(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(aiToolsService.getTrendingTools(limit));
+    }
+
+    @GetMapping("/my-tools")
+    public ResponseEntity<List<AiTools>> getMyAiTools(Authentication authentication) {
+        Long adminId = getAuthenticatedAdminId(authentication);
+        List<AiTools> tools = aiToolsService.getAiToolsByAdminId(adminId);
+        return ResponseEntity.ok(tools);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<AiTools> getAiToolById(@PathVariable Long id) {
+        AiTools tool = aiToolsService.getAiToolById(id);
+        return ResponseEntity.ok(tool);
+    }
+
+    /**
+     * Most similar tools by description, use cases and category (precomputed)
+     * GET /api/aitools/{id}/similar
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<AiTools>> getSimilarAiTools(@PathVariable Long id) {
+        return ResponseEntity.ok(aiToolsService.getSimilarTools(id));
+    }
+
+    /**
+     * Tools most often reviewed by the people who reviewed this one
+     * GET /api/aitools/{id}/related
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<AiTools>> getRelatedAiTools(@PathVariable Long id) {
+        return ResponseEntity.ok(aiToolsService.getRelatedTools(id));
+    }
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createAiTool(
+            @RequestBody AiTools aiTool,
+            Authentication authentication) {
+
+        Long adminId = getAuthenticatedAdminId(authentication);
+        AiTools createdTool = aiToolsService.createAiTool(adminId, aiTool);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "AI Tool created successfully");
+        response.put("tool", createdTool);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> updateAiTool(
+            @PathVariable Long id,
+            @RequestBody AiTools aiTool,
+            Authentication authentication) {
+
+        Long adminId = getAuthenticatedAdminId(authentication);
+        AiTools updatedTool = aiToolsService.updateAiTool(id, adminId, aiTool);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "AI Tool updated successfully");
+        response.put("tool", updatedTool);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, String>> deleteAiTool(
+            @PathVariable Long id,
+            Authentication authentication) {
+
+        Long adminId = getAuthenticatedAdminId(authentication);
+        aiToolsService.deleteAiTool(id, adminId);
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "AI Tool deleted successfully");
+        response.put("deletedId", id.toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Filter tools by category, price and rating, or look them up by a possibly
+     * misspelled name/category when q is given (e.g. ?q=chatgtp).
+     * fields=name,category,rating limits the columns selected and returned.
+     * GET /api/aitools/tools
+     */
+    @GetMapping("/tools")
+    public ResponseEntity<?> getTools(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false, name = "price") String price,
+            @RequestParam(required = false) Double rating,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer maxDistance,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields
+    ) {
+        boolean search = q != null && !q.isBlank();
+        int searchLimit = Math.max(1, Math.min(limit, 100));
+        if (fields == null) {
+            return ResponseEntity.ok(search
+                    ? aiToolsService.searchTools(q, maxDistance, searchLimit)
+                    : aiToolsService.getFilteredTools(category, rating, price));
+        }
+        try {
+            List<String> fieldset = AiToolFields.parse(fields);
+            return ResponseEntity.ok(search
+                    ? aiToolsService.searchTools(q, maxDistance, searchLimit, fieldset)
+                    : aiToolsService.getFilteredTools(category, rating, price, fieldset));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+}
+
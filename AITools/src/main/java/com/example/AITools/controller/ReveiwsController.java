@@ -0,0 +1,417 @@
+package com.example.AITools.controller;
+
+import com.example.AITools.model.ArchivedReview;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.services.CoReviewRecommender;
+import com.example.AITools.services.ModerationEventStream;
+import com.example.AITools.services.ResponseBytesCache;
+import com.example.AITools.services.ReviewArchiveService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.example.AITools.services.ReveiwsService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reviews")
+public class ReveiwsController {
+
+    private final ReveiwsService reveiwsService;
+    private final CoReviewRecommender coReviewRecommender;
+    private final ResponseBytesCache responseBytesCache;
+    private final ModerationEventStream moderationEventStream;
+    private final ReviewArchiveService reviewArchiveService;
+
+    public ReveiwsController(ReveiwsService reveiwsService,
+                             CoReviewRecommender coReviewRecommender,
+                             ResponseBytesCache responseBytesCache,
+                             ModerationEventStream moderationEventStream,
+                             ReviewArchiveService reviewArchiveService) {
+        this.reveiwsService = reveiwsService;
+        this.coReviewRecommender = coReviewRecommender;
+        this.responseBytesCache = responseBytesCache;
+        this.moderationEventStream = moderationEventStream;
+        this.reviewArchiveService = reviewArchiveService;
+    }
+
+    /**
+     * Submit a review (Public - No Auth)
+     * POST /api/reviews
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> submitReview(@RequestBody ReviewSubmissionDTO reviewDTO) {
+        Reveiws review = reveiwsService.submitReview(
+                reviewDTO.getAiToolId(),
+                reviewDTO.getContent(),
+                reviewDTO.getRating(),
+                reviewDTO.getUsername()
+        );
+
+        Map<String, Object> response = new HashMap<>();
+        if (review.getStatus() == Reveiws.ReviewStatus.REJECTED) {
+            response.put("message", "Review rejected as a duplicate of an existing review.");
+        } else {
+            response.put("message", "Review submitted successfully. It will be visible after admin approval.");
+        }
+        response.put("reviewId", review.getId());
+        response.put("status", review.getStatus().toString());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Get approved reviews for a specific AI tool (Public - No Auth), served from pre-serialized JSON bytes
+     * GET /api/reviews/aitool/{aiToolId}
+     */
+    @GetMapping("/aitool/{aiToolId}")
+    public void getApprovedReviewsForAiTool(@PathVariable Long aiToolId,
+                                            HttpServletRequest request,
+                                            HttpServletResponse response) throws IOException {
+        responseBytesCache.write(ResponseBytesCache.approvedReviewsKey(aiToolId),
+                () -> approvedReviewDTOs(aiToolId), request, response);
+    }
+
+    /**
+     * Approved reviews for a specific AI tool as CBOR or Smile, picked over JSON when Accept prefers them
+     * GET /api/reviews/aitool/{aiToolId}  (Accept: application/cbor or application/x-jackson-smile)
+     */
+    @GetMapping(value = "/aitool/{aiToolId}",
+            produces = {MediaType.APPLICATION_CBOR_VALUE, ResponseBytesCache.SMILE_VALUE})
+    public ResponseEntity<List<ReviewResponseDTO>> getApprovedReviewsForAiToolBinary(@PathVariable Long aiToolId) {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .body(approvedReviewDTOs(aiToolId));
+    }
+
+    private List<ReviewResponseDTO> approvedReviewDTOs(Long aiToolId) {
+        return reveiwsService.getApprovedReviewsByAiToolId(aiToolId).stream()
+                .map(this::convertToResponseDTO)
+                .toList();
+    }
+
+    /**
+     * Top approved reviews for several AI tools in one call (Public - No Auth)
+     * GET /api/reviews/aitool?ids=1,2,3&limit=3  (keyed by tool id, highest rated first)
+     */
+    @GetMapping(value = "/aitool", params = "ids")
+    public ResponseEntity<Map<Long, List<ReviewResponseDTO>>> getTopApprovedReviewsForAiTools(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "3") int limit) {
+        Map<Long, List<ReviewResponseDTO>> response = new LinkedHashMap<>();
+        reveiwsService.getTopApprovedReviewsByAiToolIds(ids, Math.max(1, Math.min(limit, 20)))
+                .forEach((toolId, reviews) -> response.put(toolId, reviews.stream()
+                        .map(this::convertToResponseDTO)
+                        .toList()));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get all pending reviews (Admin Only - Requires Auth)
+     * GET /api/reviews/pending
+     */
+    @GetMapping("/pending")
+    public ResponseEntity<List<ReviewResponseDTO>> getPendingReviews() {
+        List<Reveiws> reviews = reveiwsService.getAllPendingReviews();
+        List<ReviewResponseDTO> response = reviews.stream()
+                .map(this::convertToResponseDTO)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Stream of review-submitted/approved/rejected/deleted events (Admin Only - Requires Auth)
+     * GET /api/reviews/events  (send Last-Event-ID to resume after a reconnect)
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamModerationEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return moderationEventStream.subscribe(lastEventId);
+    }
+
+    /**
+     * Claim (lease) the next oldest pending reviews for the current admin (Admin Only - Requires Auth)
+     * POST /api/reviews/pending/claim?limit=10
+     */
+    @PostMapping("/pending/claim")
+    public ResponseEntity<List<ReviewResponseDTO>> claimPendingReviews(
+            @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        List<Reveiws> reviews = reveiwsService.claimPendingReviews(authentication.getName(), limit);
+        List<ReviewResponseDTO> response = reviews.stream()
+                .map(this::convertToResponseDTO)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Approve a review (Admin Only - Requires Auth)
+     * PUT /api/reviews/{reviewId}/approve
+     * 409 while another admin's claim on the review has not expired
+     */
+    @PutMapping("/{reviewId}/approve")
+    public ResponseEntity<?> approveReview(@PathVariable Long reviewId, Authentication authentication) {
+        Reveiws review;
+        try {
+            review = reveiwsService.approveReview(reviewId, authentication.getName());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Review approved successfully");
+        response.put("reviewId", review.getId());
+        response.put("status", review.getStatus().toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reject a review (Admin Only - Requires Auth)
+     * PUT /api/reviews/{reviewId}/reject
+     * 409 while another admin's claim on the review has not expired
+     */
+    @PutMapping("/{reviewId}/reject")
+    public ResponseEntity<?> rejectReview(@PathVariable Long reviewId, Authentication authentication) {
+        Reveiws review;
+        try {
+            review = reveiwsService.rejectReview(reviewId, authentication.getName());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Review rejected successfully");
+        response.put("reviewId", review.getId());
+        response.put("status", review.getStatus().toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Delete a review (Admin Only - Requires Auth)
+     * DELETE /api/reviews/{reviewId}
+     */
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<Map<String, String>> deleteReview(@PathVariable Long reviewId) {
+        reveiwsService.deleteReview(reviewId);
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Review deleted successfully");
+        response.put("deletedId", reviewId.toString());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get all approved reviews (Public - No Auth)
+     * GET /api/reviews/approved
+     */
+    @GetMapping("/approved")
+    public ResponseEntity<List<ReviewResponseDTO>> getAllApprovedReviews() {
+        List<Reveiws> reviews = reveiwsService.getAllApprovedReviews();
+        List<ReviewResponseDTO> response = reviews.stream()
+                .map(this::convertToResponseDTO)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuild the co-review ("also reviewed") matrix from the reviews table (Admin Only)
+     * POST /api/reviews/related/rebuild
+     */
+    @PostMapping("/related/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRelated() {
+        int scanned = coReviewRecommender.rebuild();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Related tools rebuilt successfully");
+        response.put("approvedReviewsScanned", scanned);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Archived (cold) reviews, newest first (Admin Only)
+     * GET /api/reviews/archive?aiToolId=&status=&beforeId=&limit=50  (pass the last id back as beforeId for the next page)
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<List<ArchivedReview>> getArchivedReviews(
+            @RequestParam(required = false) Long aiToolId,
+            @RequestParam(required = false) Reveiws.ReviewStatus status,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(reviewArchiveService.getArchivedReviews(
+                aiToolId, status, beforeId, Math.max(1, Math.min(limit, 500))));
+    }
+
+    /**
+     * Run a review archival pass now instead of waiting for the nightly job (Admin Only)
+     * POST /api/reviews/archive/run
+     */
+    @PostMapping("/archive/run")
+    public ResponseEntity<Map<String, Object>> runArchival() {
+        return ResponseEntity.ok(reviewArchiveService.runArchival());
+    }
+
+    /**
+     * Get a specific review by ID (Admin Only)
+     * GET /api/reviews/{reviewId}
+     */
+    @GetMapping("/{reviewId}")
+    public ResponseEntity<ReviewResponseDTO> getReviewById(@PathVariable Long reviewId) {
+        Reveiws review = reveiwsService.getReviewById(reviewId);
+        return ResponseEntity.ok(convertToResponseDTO(review));
+    }
+
+    // Helper method to convert entity to DTO
+    private ReviewResponseDTO convertToResponseDTO(Reveiws review) {
+        ReviewResponseDTO dto = new ReviewResponseDTO();
+        dto.setId(review.getId());
+        dto.setContent(review.getContent());
+        dto.setRating(review.getRating());
+        dto.setUsername(review.getUsername());
+        dto.setStatus(review.getStatus().toString());
+        dto.setAiToolId(review.getAiTool().getId());
+        dto.setAiToolName(review.getAiTool().getName());
+        dto.setLeasedBy(review.getLeasedBy());
+        dto.setLeaseExpiresAt(review.getLeaseExpiresAt());
+        return dto;
+    }
+
+    // DTOs
+    public static class ReviewSubmissionDTO {
+        private Long aiToolId;
+        private String content;
+        private Double rating;
+        private String username;
+
+        public Long getAiToolId() {
+            return aiToolId;
+        }
+
+        public void setAiToolId(Long aiToolId) {
+            this.aiToolId = aiToolId;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public Double getRating() {
+            return rating;
+        }
+
+        public void setRating(Double rating) {
+            this.rating = rating;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+    }
+
+    public static class ReviewResponseDTO {
+        private Long id;
+        private String content;
+        private Double rating;
+        private String username;
+        private String status;
+        private Long aiToolId;
+        private String aiToolName;
+        private String leasedBy;
+        private Instant leaseExpiresAt;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public Double getRating() {
+            return rating;
+        }
+
+        public void setRating(Double rating) {
+            this.rating = rating;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public Long getAiToolId() {
+            return aiToolId;
+        }
+
+        public void setAiToolId(Long aiToolId) {
+            this.aiToolId = aiToolId;
+        }
+
+        public String getAiToolName() {
+            return aiToolName;
+        }
+
+        public void setAiToolName(String aiToolName) {
+            this.aiToolName = aiToolName;
+        }
+
+        public String getLeasedBy() {
+            return leasedBy;
+        }
+
+        public void setLeasedBy(String leasedBy) {
+            this.leasedBy = leasedBy;
+        }
+
+        public Instant getLeaseExpiresAt() {
+            return leaseExpiresAt;
+        }
+
+        public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+            this.leaseExpiresAt = leaseExpiresAt;
+        }
+    }
+}
+
@@ -1,13 +1,15 @@
 package com.example.AITools.controller;
 
-import com.example.AITools.model.AiTools;
+import com.example.AITools.model.AiToolFields;
 import com.example.AITools.services.AdminService;
 import com.example.AITools.services.AiToolsService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("auth/users")
@@ -21,8 +23,15 @@ public class UserController {
     }
 
     @GetMapping
-    public List<AiTools> getAllAiTools() {
-        return aiToolsService.getAllAiTools();
+    public ResponseEntity<?> getAllAiTools(@RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(aiToolsService.getAllAiTools());
+        }
+        try {
+            return ResponseEntity.ok(aiToolsService.getAllAiTools(AiToolFields.parse(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
 
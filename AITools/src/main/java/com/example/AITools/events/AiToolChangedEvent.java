@@ -0,0 +1,14 @@
+package com.example.AITools.events;
+
+/**
+ * Published by AiToolsService whenever a tool is created, updated or deleted.
+ * In-memory indexes listen for it after commit to stay in sync with the table.
+ */
+public record AiToolChangedEvent(Long toolId, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
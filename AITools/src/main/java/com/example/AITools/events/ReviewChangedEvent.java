@@ -0,0 +1,27 @@
+package com.example.AITools.events;
+
+import com.example.AITools.model.Reveiws;
+
+import java.time.Instant;
+
+/**
+ * Published by ReveiwsService on every review state change.
+ * previousStatus is null for a new submission and newStatus is null for a delete.
+ * approvedAt is the review's latest approval time, null if it was never approved.
+ */
+public record ReviewChangedEvent(Long reviewId,
+                                 Long aiToolId,
+                                 String username,
+                                 Double rating,
+                                 Reveiws.ReviewStatus previousStatus,
+                                 Reveiws.ReviewStatus newStatus,
+                                 Instant approvedAt) {
+
+    public boolean wasApproved() {
+        return previousStatus == Reveiws.ReviewStatus.APPROVED;
+    }
+
+    public boolean isApproved() {
+        return newStatus == Reveiws.ReviewStatus.APPROVED;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.AITools.filter;
+
+import com.example.AITools.services.AdaptiveConcurrencyLimiter;
+import com.example.AITools.services.AdaptiveConcurrencyLimiter.Priority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Admission control for the DB-backed API. Runs right after Spring Security's filter chain
+ * (order -100), so requests are classified by who they really are:
+ * authenticated writes > authenticated reads > public reads > public review submissions.
+ * A request the limiter refuses gets 503 with Retry-After instead of queueing for a thread
+ * and a connection. Long-lived streams and the admin metrics endpoints are not limited.
+ * Only requests that ran SQL feed the latency gradient: cache hits answer in microseconds
+ * whatever the database is doing, and would hide its saturation.
+ * Anonymous /auth/admin/** calls (login, register) are BCrypt-bound rather than DB-bound,
+ * so they get their own small fixed limit instead of a share of the adaptive one. Admins
+ * can still log in while public traffic is shed, and a login flood cannot starve reads.
+ */
+@Component
+@Order(-99)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final boolean enabled;
+    private final Semaphore authPermits;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                  @Value("${aitools.limiter.enabled:true}") boolean enabled,
+                                  @Value("${aitools.limiter.auth-max-concurrent:4}") int authMaxConcurrent) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+        this.authPermits = new Semaphore(authMaxConcurrent);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !enabled
+                || !(path.startsWith("/api/") || path.startsWith("/auth/"))
+                || path.startsWith("/api/admin/")
+                || path.equals("/api/reviews/events");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!authenticated() && request.getRequestURI().startsWith(request.getContextPath() + "/auth/admin/")) {
+            if (!authPermits.tryAcquire()) {
+                reject(response);
+                return;
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                authPermits.release();
+            }
+            return;
+        }
+
+        Priority priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            reject(response);
+            return;
+        }
+
+        RequestTimings timings = RequestTimings.current();
+        // the JWT filter's user lookup ran before this filter and is not part of the sample
+        long dbBefore = timings.getDbNanos();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            // errors, shed-by-downstream responses and requests that never reached the database
+            // are not latency samples
+            boolean measured = !failed && response.getStatus() < 500 && timings.getDbNanos() > dbBefore;
+            limiter.release(System.nanoTime() - start, measured);
+        }
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Server busy, please retry shortly\"}");
+    }
+
+    private static boolean authenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private static Priority classify(HttpServletRequest request) {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        if (authenticated()) {
+            return read ? Priority.ADMIN_READ : Priority.ADMIN_WRITE;
+        }
+        return read ? Priority.PUBLIC_READ : Priority.PUBLIC_SUBMIT;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.AITools.filter;
 
 import com.example.AITools.services.CustomUserDetailsService;
 import com.example.AITools.services.JWTService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -44,17 +45,21 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter{
             return;
         }
 
+        long authStart = System.nanoTime();
         try {
             jwt = authHeader.substring(7);
-            username = jwtService.extractUsername(jwt);
+            Claims claims = jwtService.extractAllClaims(jwt);
+            username = claims.getSubject();
 
+            // Revoked tokens are dropped before the user lookup
             if (username != null &&
-                    SecurityContextHolder.getContext().getAuthentication() == null) {
+                    SecurityContextHolder.getContext().getAuthentication() == null &&
+                    !jwtService.isRevoked(claims)) {
 
                 UserDetails userDetails =
                         userDetailsService.loadUserByUsername(username);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
 
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
@@ -77,6 +82,7 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter{
             // If token is invalid, just continue without authentication
             System.err.println("JWT Token validation error: " + e.getMessage());
         }
+        RequestTimings.current().addAuth(System.nanoTime() - authStart);
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,69 @@
+package com.example.AITools.filter;
+
+import com.example.AITools.services.RequestTimingStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Outermost filter: times the whole request, feeds the phase histograms and, when
+ * aitools.timing.server-timing-header is on, adds a Server-Timing header. The header
+ * needs the body buffered until the total is known, so buffering only happens in that
+ * debug mode and never for event streams.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTimingStats stats;
+    private final boolean serverTimingHeader;
+
+    public RequestTimingFilter(RequestTimingStats stats,
+                               @Value("${aitools.timing.server-timing-header:false}") boolean serverTimingHeader) {
+        this.stats = stats;
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.current();
+        ContentCachingResponseWrapper buffered = serverTimingHeader && !isEventStream(request)
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        timings.begin();
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            timings.finish();
+            if (!request.isAsyncStarted()) {
+                stats.record(timings.getAuthNanos(), timings.getDbNanos(),
+                        timings.getSerializationNanos(), timings.getTotalNanos());
+            }
+            if (buffered != null) {
+                response.setHeader("Server-Timing", timings.toServerTiming());
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private static boolean isEventStream(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.AITools.filter;
+
+/**
+ * Per-request phase timers. One instance per thread is reused across requests (reset by
+ * RequestTimingFilter), so recording a phase on the hot path is just a field update.
+ * Phases may overlap: the user lookup inside the JWT filter counts as both auth and db.
+ * The holder also carries the handling controller method, for attributing SQL to endpoints.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private boolean active;
+    private long startNanos;
+    private long endNanos;
+    private long authNanos;
+    private long dbNanos;
+    private long serializationStartNanos;
+    private String endpoint;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    void begin() {
+        active = true;
+        startNanos = System.nanoTime();
+        endNanos = 0;
+        authNanos = 0;
+        dbNanos = 0;
+        serializationStartNanos = 0;
+        endpoint = null;
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+        active = false;
+        endpoint = null;
+    }
+
+    /**
+     * Starts tracking work a request handed to this worker thread: SQL run here is attributed
+     * to the request's endpoint and its db time collected, for the request thread to add to its
+     * own timings. Call endDetached when the work is done.
+     */
+    public static RequestTimings beginDetached(String endpoint) {
+        RequestTimings timings = current();
+        timings.begin();
+        timings.endpoint = endpoint;
+        return timings;
+    }
+
+    public void endDetached() {
+        finish();
+    }
+
+    public void addAuth(long nanos) {
+        if (active) {
+            authNanos += nanos;
+        }
+    }
+
+    public void addDb(long nanos) {
+        if (active) {
+            dbNanos += nanos;
+        }
+    }
+
+    // called right before the response body is written; the rest of the request counts as serialization
+    public void markSerializationStart() {
+        if (active && serializationStartNanos == 0) {
+            serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    public void setEndpoint(String endpoint) {
+        if (active) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    // null outside a request (scheduled jobs, startup work)
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getAuthNanos() {
+        return authNanos;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public long getSerializationNanos() {
+        return serializationStartNanos == 0 ? 0 : endNanos - serializationStartNanos;
+    }
+
+    public long getTotalNanos() {
+        return endNanos - startNanos;
+    }
+
+    String toServerTiming() {
+        return "auth;dur=" + millis(authNanos)
+                + ", db;dur=" + millis(dbNanos)
+                + ", ser;dur=" + millis(getSerializationNanos())
+                + ", total;dur=" + millis(getTotalNanos());
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(nanos / 1000 / 1000.0);
+    }
+}
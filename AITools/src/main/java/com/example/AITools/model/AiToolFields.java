@@ -0,0 +1,66 @@
+package com.example.AITools.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldsets for AiTools listings (?fields=name,category,rating). Names are the
+ * JSON property names, which are also the entity attribute names, so a fieldset can be
+ * used directly as a query projection. id is always included.
+ */
+public final class AiToolFields {
+
+    private static final Map<String, Function<AiTools, Object>> ACCESSORS = new LinkedHashMap<>();
+
+    static {
+        ACCESSORS.put("id", AiTools::getId);
+        ACCESSORS.put("name", AiTools::getName);
+        ACCESSORS.put("decription", AiTools::getDecription);
+        ACCESSORS.put("usecases", AiTools::getUsecases);
+        ACCESSORS.put("category", AiTools::getCategory);
+        ACCESSORS.put("pricingtype", AiTools::getPricingtype);
+        ACCESSORS.put("rating", AiTools::getRating);
+        ACCESSORS.put("updatedAt", AiTools::getUpdatedAt);
+        ACCESSORS.put("changeVersion", AiTools::getChangeVersion);
+    }
+
+    private AiToolFields() {
+    }
+
+    /**
+     * Parses a comma-separated fieldset; throws IllegalArgumentException on unknown names.
+     */
+    public static List<String> parse(String fields) {
+        List<String> parsed = new ArrayList<>();
+        parsed.add("id");
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || parsed.contains(name)) {
+                continue;
+            }
+            if (ACCESSORS.containsKey(name)) {
+                parsed.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown field(s): " + String.join(", ", unknown)
+                    + ". Allowed: " + String.join(", ", ACCESSORS.keySet()));
+        }
+        return parsed;
+    }
+
+    // For tools already in memory (catalog cache): no query to push the projection into
+    public static Map<String, Object> project(AiTools tool, List<String> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : fields) {
+            projected.put(field, ACCESSORS.get(field).apply(tool));
+        }
+        return projected;
+    }
+}
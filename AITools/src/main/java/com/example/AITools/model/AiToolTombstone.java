@@ -0,0 +1,58 @@
+package com.example.AITools.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Marks a deleted tool so delta-sync clients learn about the delete.
+ */
+@Entity
+@Table(name = "aitool_tombstones", indexes = {
+        @Index(name = "idx_tombstones_change_version", columnList = "change_version")
+})
+public class AiToolTombstone {
+
+    @Id
+    @Column(name = "tool_id")
+    private Long toolId;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public AiToolTombstone() {
+    }
+
+    public AiToolTombstone(Long toolId, long changeVersion, Instant deletedAt) {
+        this.toolId = toolId;
+        this.changeVersion = changeVersion;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getToolId() {
+        return toolId;
+    }
+
+    public void setToolId(Long toolId) {
+        this.toolId = toolId;
+    }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -4,10 +4,14 @@ package com.example.AITools.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Table(name = "AiTools")
+@Table(name = "AiTools", indexes = {
+        @Index(name = "idx_aitools_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_aitools_change_version", columnList = "change_version")
+})
 public class AiTools {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,6 +29,13 @@ public class AiTools {
 
     private double rating;
 
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // Catalog-wide change sequence number of the last write to this row (see CatalogVersionService)
+    @Column(name = "change_version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long changeVersion;
+
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "admin_id")
@@ -104,6 +115,28 @@ public class AiTools {
         this.rating = rating;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touchUpdatedAt() {
+        this.updatedAt = Instant.now();
+    }
+
     public Admin getAdmin() {
         return admin;
     }
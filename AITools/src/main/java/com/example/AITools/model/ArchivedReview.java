@@ -0,0 +1,120 @@
+package com.example.AITools.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Cold copy of a review moved out of the hot reviews table by ReviewArchiveService.
+ * The tool is kept as a plain id (no foreign key), so archived rows outlive their tool.
+ */
+@Entity
+@Table(name = "reviews_archive", indexes = {
+        @Index(name = "idx_reviews_archive_aitool", columnList = "aitool_id"),
+        @Index(name = "idx_reviews_archive_status", columnList = "status")
+})
+public class ArchivedReview {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private Double rating;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Reveiws.ReviewStatus status;
+
+    @Column(name = "aitool_id", nullable = false)
+    private Long aiToolId;
+
+    @Column(name = "submitted_at")
+    private Instant submittedAt;
+
+    @Column(name = "approved_at")
+    private Instant approvedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    public ArchivedReview() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Reveiws.ReviewStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Reveiws.ReviewStatus status) {
+        this.status = status;
+    }
+
+    public Long getAiToolId() {
+        return aiToolId;
+    }
+
+    public void setAiToolId(Long aiToolId) {
+        this.aiToolId = aiToolId;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getApprovedAt() {
+        return approvedAt;
+    }
+
+    public void setApprovedAt(Instant approvedAt) {
+        this.approvedAt = approvedAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(Instant archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.AITools.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row counter handing out catalog change versions. The row is locked
+ * for the rest of the writing transaction, so versions become visible in order.
+ */
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersion {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long value;
+
+    public CatalogVersion() {
+    }
+
+    public CatalogVersion(Long id, long value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+}
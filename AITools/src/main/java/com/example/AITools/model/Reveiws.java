@@ -3,8 +3,13 @@ package com.example.AITools.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 
+import java.time.Instant;
+
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_status", columnList = "status"),
+        @Index(name = "idx_reviews_approved_at", columnList = "approved_at")
+})
 public class Reveiws {
 
     @Id
@@ -29,6 +34,18 @@ public class Reveiws {
     @JsonIgnore
     private AiTools aiTool;
 
+    @Column(name = "leased_by")
+    private String leasedBy; // Admin currently moderating this review
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    @Column(name = "submitted_at")
+    private Instant submittedAt;
+
+    @Column(name = "approved_at")
+    private Instant approvedAt; // Last time the review was approved
+
     public Reveiws() {
     }
 
@@ -89,6 +106,45 @@ public class Reveiws {
         this.aiTool = aiTool;
     }
 
+    public String getLeasedBy() {
+        return leasedBy;
+    }
+
+    public void setLeasedBy(String leasedBy) {
+        this.leasedBy = leasedBy;
+    }
+
+    public Instant getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getApprovedAt() {
+        return approvedAt;
+    }
+
+    public void setApprovedAt(Instant approvedAt) {
+        this.approvedAt = approvedAt;
+    }
+
+    @PrePersist
+    void stampSubmittedAt() {
+        if (this.submittedAt == null) {
+            this.submittedAt = Instant.now();
+        }
+    }
+
     // Enum for Review Status
     public enum ReviewStatus {
         PENDING,
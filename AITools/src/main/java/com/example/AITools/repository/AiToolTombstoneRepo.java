@@ -0,0 +1,13 @@
+package com.example.AITools.repository;
+
+import com.example.AITools.model.AiToolTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AiToolTombstoneRepo extends JpaRepository<AiToolTombstone, Long> {
+    List<AiToolTombstone> findByChangeVersionGreaterThanOrderByChangeVersionAsc(long since, Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.example.AITools.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface AiToolsProjectionRepo {
+
+    // Only the given columns (see AiToolFields) of the tools matching the optional filters, ordered by id.
+    // A null filter is not applied.
+    List<Map<String, Object>> findFields(List<String> fields,
+                                         String category,
+                                         String pricingtype,
+                                         Double rating,
+                                         Collection<Long> ids);
+}
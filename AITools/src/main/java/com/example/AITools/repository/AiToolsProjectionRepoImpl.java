@@ -0,0 +1,80 @@
+package com.example.AITools.repository;
+
+import com.example.AITools.model.AiTools;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the SELECT list from the requested fields, so unrequested columns
+ * (notably the long description and use-case text) are never read.
+ * Once the catalog cache is ready, fields= requests are projected from memory instead
+ * (see AiToolsService), so this runs during warm-up and when the cache is unavailable.
+ */
+public class AiToolsProjectionRepoImpl implements AiToolsProjectionRepo {
+
+    private final EntityManager entityManager;
+
+    public AiToolsProjectionRepoImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFields(List<String> fields,
+                                                String category,
+                                                String pricingtype,
+                                                Double rating,
+                                                Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<AiTools> tool = query.from(AiTools.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            selections.add(tool.get(field).alias(field));
+        }
+
+        List<Predicate> where = new ArrayList<>();
+        if (category != null) {
+            where.add(cb.equal(cb.lower(tool.<String>get("category")), category.toLowerCase()));
+        }
+        if (pricingtype != null) {
+            where.add(cb.equal(cb.lower(tool.<String>get("pricingtype")), pricingtype.toLowerCase()));
+        }
+        if (rating != null) {
+            where.add(cb.greaterThanOrEqualTo(tool.<Double>get("rating"), rating));
+        }
+        if (ids != null) {
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            where.add(tool.get("id").in(ids));
+        }
+
+        query.select(cb.tuple(selections.toArray(Selection<?>[]::new)))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(tool.get("id")));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.AITools.repository;
+
+import com.example.AITools.model.AiTools;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AiToolsRepo extends JpaRepository<AiTools, Long>, AiToolsProjectionRepo {
+    List<AiTools> findByAdminId(Long adminId);
+    Optional<AiTools> findByIdAndAdminId(Long id, Long adminId);
+    boolean existsByIdAndAdminId(Long id, Long adminId);
+
+    // Row-locks the tool for the rest of the transaction if it exists and belongs to the admin
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AiTools> findWithLockByIdAndAdminId(Long id, Long adminId);
+    List<AiTools> findByUpdatedAtGreaterThanEqual(Instant since);
+    List<AiTools> findByChangeVersionGreaterThanOrderByChangeVersionAsc(long since, Pageable pageable);
+
+    @Query("SELECT t.id FROM AiTools t")
+    List<Long> findAllIds();
+
+    @Query("SELECT t.id FROM AiTools t WHERE t.changeVersion = 0 ORDER BY t.id")
+    List<Long> findIdsWithoutChangeVersion();
+
+    @Modifying
+    @Query("UPDATE AiTools t SET t.changeVersion = :version WHERE t.id = :id")
+    int setChangeVersion(@Param("id") Long id, @Param("version") long version);
+
+    @Modifying
+    @Query("DELETE FROM AiTools t WHERE t.id = :id AND t.admin.id = :adminId")
+    int deleteByIdAndAdminId(@Param("id") Long id, @Param("adminId") Long adminId);
+
+    @Query("""
+		    SELECT t FROM AiTools t
+		    WHERE (:category IS NULL OR LOWER(t.category) = LOWER(:category))
+		      AND (:pricingtype IS NULL OR LOWER(t.pricingtype) = LOWER(:pricingtype))
+		      AND (:rating IS NULL OR t.rating >= :rating)
+		""")
+    List<AiTools> filterTools(
+            @Param("category") String category,
+            @Param("pricingtype") String pricingtype,
+            @Param("rating") Double rating
+    );
+}
+
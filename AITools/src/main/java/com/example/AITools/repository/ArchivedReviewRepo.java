@@ -0,0 +1,42 @@
+package com.example.AITools.repository;
+
+import com.example.AITools.model.ArchivedReview;
+import com.example.AITools.model.Reveiws;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedReviewRepo extends JpaRepository<ArchivedReview, Long> {
+
+    // Copy hot rows into the archive in one statement, without loading them
+    @Modifying
+    @Query(value = """
+            INSERT INTO reviews_archive
+                (id, content, rating, username, status, aitool_id, submitted_at, approved_at, archived_at)
+            SELECT id, content, rating, username, status, aitool_id, submitted_at, approved_at, :archivedAt
+            FROM reviews
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int copyFromReviews(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    // Newest first, keyset-paged by id; null filters are not applied
+    @Query("""
+            SELECT a FROM ArchivedReview a
+            WHERE (:aiToolId IS NULL OR a.aiToolId = :aiToolId)
+              AND (:status IS NULL OR a.status = :status)
+              AND a.id < :beforeId
+            ORDER BY a.id DESC
+            """)
+    List<ArchivedReview> findPage(@Param("aiToolId") Long aiToolId,
+                                  @Param("status") Reveiws.ReviewStatus status,
+                                  @Param("beforeId") Long beforeId,
+                                  Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.example.AITools.repository;
+
+import com.example.AITools.model.CatalogVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogVersionRepo extends JpaRepository<CatalogVersion, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM CatalogVersion v WHERE v.id = :id")
+    Optional<CatalogVersion> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,133 @@
+package com.example.AITools.repository;
+
+import com.example.AITools.model.Reveiws;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReveiwsRepo extends JpaRepository<Reveiws, Long> {
+
+    // Find all reviews by status with eager fetch of AiTools
+    @Query("SELECT r FROM Reveiws r JOIN FETCH r.aiTool WHERE r.status = :status")
+    List<Reveiws> findByStatusWithAiTool(@Param("status") Reveiws.ReviewStatus status);
+
+    // Find reviews by AI tool ID with eager fetch
+    @Query("SELECT r FROM Reveiws r JOIN FETCH r.aiTool WHERE r.aiTool.id = :aiToolId")
+    List<Reveiws> findByAiToolIdWithFetch(@Param("aiToolId") Long aiToolId);
+
+    // Find reviews by AI tool ID and status with eager fetch
+    @Query("SELECT r FROM Reveiws r JOIN FETCH r.aiTool WHERE r.aiTool.id = :aiToolId AND r.status = :status")
+    List<Reveiws> findByAiToolIdAndStatusWithFetch(@Param("aiToolId") Long aiToolId, @Param("status") Reveiws.ReviewStatus status);
+
+    // Find review by ID with eager fetch
+    @Query("SELECT r FROM Reveiws r JOIN FETCH r.aiTool WHERE r.id = :id")
+    Optional<Reveiws> findByIdWithAiTool(@Param("id") Long id);
+
+    // Row-locks the review for the rest of the transaction, so a moderation decision sees the current lease
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Reveiws> findWithLockById(Long id);
+
+    // Keyset-paged scan of (id, aiToolId, username) for reviews in a status, no entity hydration
+    @Query("SELECT r.id, r.aiTool.id, r.username FROM Reveiws r WHERE r.status = :status AND r.id > :afterId ORDER BY r.id")
+    List<Object[]> findReviewerChunk(@Param("status") Reveiws.ReviewStatus status,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    // Newest-first keyset-paged scan of (id, aiToolId, username, content) over reviews not in the given status
+    @Query("SELECT r.id, r.aiTool.id, r.username, r.content FROM Reveiws r "
+            + "WHERE r.id < :beforeId AND r.status <> :excluded ORDER BY r.id DESC")
+    List<Object[]> findContentChunkBefore(@Param("beforeId") Long beforeId,
+                                          @Param("excluded") Reveiws.ReviewStatus excluded,
+                                          Pageable pageable);
+
+    // Lock the oldest unleased (or lease-expired) pending reviews, skipping rows another admin is claiming
+    @Query(value = """
+            SELECT id FROM reviews
+            WHERE status = 'PENDING'
+              AND (lease_expires_at IS NULL OR lease_expires_at < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockClaimablePendingIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Reveiws r SET r.leasedBy = :admin, r.leaseExpiresAt = :until WHERE r.id IN :ids")
+    int leaseReviews(@Param("ids") Collection<Long> ids,
+                     @Param("admin") String admin,
+                     @Param("until") Instant until);
+
+    // Ids of the top `limit` approved reviews of each tool (highest rated, then newest), grouped by tool in rank order
+    @Query(value = """
+            SELECT ranked.id FROM (
+                SELECT id, aitool_id,
+                       ROW_NUMBER() OVER (PARTITION BY aitool_id ORDER BY rating DESC, id DESC) AS rn
+                FROM reviews
+                WHERE status = 'APPROVED' AND aitool_id IN (:aiToolIds)
+            ) ranked
+            WHERE ranked.rn <= :limit
+            ORDER BY ranked.aitool_id, ranked.rn
+            """, nativeQuery = true)
+    List<Long> findTopApprovedIdsPerAiTool(@Param("aiToolIds") Collection<Long> aiToolIds, @Param("limit") int limit);
+
+    @Query("SELECT r FROM Reveiws r JOIN FETCH r.aiTool WHERE r.id IN :ids ORDER BY r.id")
+    List<Reveiws> findByIdsWithAiTool(@Param("ids") Collection<Long> ids);
+
+    // Set-based delete of one chunk of a tool's reviews, without loading them
+    @Modifying
+    @Query(value = "DELETE FROM reviews WHERE aitool_id = :aiToolId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAiToolId(@Param("aiToolId") Long aiToolId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM Reveiws r WHERE r.aiTool.id = :aiToolId")
+    int deleteAllByAiToolId(@Param("aiToolId") Long aiToolId);
+
+    // Per-tool (aiToolId, count, sum of ratings) over reviews in a status
+    @Query("SELECT r.aiTool.id, COUNT(r), SUM(r.rating) FROM Reveiws r WHERE r.status = :status GROUP BY r.aiTool.id")
+    List<Object[]> aggregateRatingsByStatus(@Param("status") Reveiws.ReviewStatus status);
+
+    // (toolId, rating, approvedAt) of reviews approved since the given time, for the trending counters
+    @Query("SELECT r.aiTool.id, r.rating, r.approvedAt FROM Reveiws r WHERE r.status = :status AND r.approvedAt >= :since")
+    List<Object[]> findApprovedSince(@Param("status") Reveiws.ReviewStatus status, @Param("since") Instant since);
+
+    // Archival candidates (see ReviewArchiveService); rows from before submitted_at existed count as old
+    @Query("SELECT r.id FROM Reveiws r WHERE r.status = :status AND (r.submittedAt IS NULL OR r.submittedAt < :before) ORDER BY r.id")
+    List<Long> findIdsSubmittedBefore(@Param("status") Reveiws.ReviewStatus status,
+                                      @Param("before") Instant before,
+                                      Pageable pageable);
+
+    @Query("SELECT r.id FROM Reveiws r WHERE r.status = :status AND r.approvedAt < :before ORDER BY r.id")
+    List<Long> findIdsApprovedBefore(@Param("status") Reveiws.ReviewStatus status,
+                                     @Param("before") Instant before,
+                                     Pageable pageable);
+
+    // (id, toolId, username, rating, approvedAt) for publishing change events about rows about to leave the table
+    @Query("SELECT r.id, r.aiTool.id, r.username, r.rating, r.approvedAt FROM Reveiws r WHERE r.id IN :ids")
+    List<Object[]> findEventRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Reveiws r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // Find all pending reviews with eager fetch
+    default List<Reveiws> findAllPending() {
+        return findByStatusWithAiTool(Reveiws.ReviewStatus.PENDING);
+    }
+
+    // Find all approved reviews with eager fetch
+    default List<Reveiws> findAllApproved() {
+        return findByStatusWithAiTool(Reveiws.ReviewStatus.APPROVED);
+    }
+}
+
@@ -0,0 +1,127 @@
+package com.example.AITools.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient-style adaptive concurrency limit. A slow-moving average of request latency is
+ * the no-load baseline and a fast-moving one is the current latency; when the current
+ * latency grows past the baseline the limit shrinks in proportion, otherwise it grows by
+ * about sqrt(limit). Each priority class may only use a share of the limit, so as in-flight
+ * requests approach the limit the lowest classes are refused first.
+ */
+@Service
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        ADMIN_WRITE(1.0),
+        ADMIN_READ(0.9),
+        PUBLIC_READ(0.75),
+        PUBLIC_SUBMIT(0.6);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    // latency may grow this much over the baseline before the limit starts shrinking
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, LongAdder> admitted = new EnumMap<>(Priority.class);
+    private final Map<Priority, LongAdder> shed = new EnumMap<>(Priority.class);
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(@Value("${aitools.limiter.initial-limit:50}") int initialLimit,
+                                      @Value("${aitools.limiter.min-limit:10}") int minLimit,
+                                      @Value("${aitools.limiter.max-limit:400}") int maxLimit,
+                                      @Value("${aitools.limiter.smoothing:0.2}") double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        for (Priority priority : Priority.values()) {
+            admitted.put(priority, new LongAdder());
+            shed.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * Takes a slot for a request of the given class, or returns false if it should be shed.
+     * Every successful acquire must be paired with release.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shed.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                admitted.get(priority).increment();
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean measured) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (measured) {
+            sample(latencyNanos, inFlightBefore);
+        }
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightBefore) {
+        shortRttNanos = shortRttNanos == 0 ? rttNanos : shortRttNanos * 0.9 + rttNanos * 0.1;
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos * 0.99 + rttNanos * 0.01;
+        // latency has dropped well below the baseline (load eased off), so decay the baseline to
+        // catch up instead of leaving the gradient stuck at its ceiling
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        double current = limit;
+        if (inFlightBefore < current / 2) {
+            // not using the limit, so latency says nothing about whether it is too high
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", (int) limit);
+        stats.put("inFlight", inFlight.get());
+        synchronized (this) {
+            stats.put("shortRttMs", shortRttNanos / 1_000_000.0);
+            stats.put("longRttMs", longRttNanos / 1_000_000.0);
+        }
+        Map<String, Object> classes = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("maxInFlight", Math.max(1, (int) (limit * priority.share)));
+            counts.put("admitted", admitted.get(priority).sum());
+            counts.put("shed", shed.get(priority).sum());
+            classes.put(priority.name(), counts);
+        }
+        stats.put("classes", classes);
+        return stats;
+    }
+}
@@ -10,9 +10,11 @@ import java.util.List;
 public class AdminService {
 
     private final AdminRepo adminRepo;
+    private final JWTService jwtService;
 
-    public AdminService(AdminRepo adminRepo) {
+    public AdminService(AdminRepo adminRepo, JWTService jwtService) {
         this.adminRepo = adminRepo;
+        this.jwtService = jwtService;
     }
 
     public Admin getAdminById(Long adminId) {
@@ -32,13 +34,20 @@ public class AdminService {
 
     public Admin updateAdmin(Long adminId, Admin updatedAdmin) {
         Admin admin = getAdminById(adminId);
+        String previousName = admin.getName();
         admin.setName(updatedAdmin.getName());
         // Don't update password here - use separate method with encoding
-        return adminRepo.save(admin);
+        Admin savedAdmin = adminRepo.save(admin);
+        // Tokens carry the name as subject, so the old ones must stop working
+        if (!previousName.equals(savedAdmin.getName())) {
+            jwtService.revokeAllTokensFor(previousName);
+        }
+        return savedAdmin;
     }
 
     public void deleteAdmin(Long adminId) {
         Admin admin = getAdminById(adminId);
         adminRepo.delete(admin);
+        jwtService.revokeAllTokensFor(admin.getName());
     }
 }
@@ -0,0 +1,340 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.model.Admin;
+import com.example.AITools.model.AiToolFields;
+import com.example.AITools.model.AiToolTombstone;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.repository.AdminRepo;
+import com.example.AITools.repository.AiToolTombstoneRepo;
+import com.example.AITools.repository.AiToolsRepo;
+import com.example.AITools.repository.ReveiwsRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class AiToolsService {
+
+    private final AiToolsRepo aiToolsRepo;
+    private final AdminRepo adminRepo;
+    private final ReveiwsRepo reveiwsRepo;
+    private final AiToolTombstoneRepo tombstoneRepo;
+    private final CatalogVersionService catalogVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogCache catalogCache;
+    private final FuzzyToolIndex fuzzyToolIndex;
+    private final SimilarToolsService similarToolsService;
+    private final CoReviewRecommender coReviewRecommender;
+    private final TrendingToolsService trendingToolsService;
+    private final StaleWhileRevalidateCache staleCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int deleteChunkSize;
+    private final int maxBatchIds;
+
+    public AiToolsService(AiToolsRepo aiToolsRepo,
+                          AdminRepo adminRepo,
+                          ReveiwsRepo reveiwsRepo,
+                          AiToolTombstoneRepo tombstoneRepo,
+                          CatalogVersionService catalogVersionService,
+                          TransactionTemplate transactionTemplate,
+                          CatalogCache catalogCache,
+                          FuzzyToolIndex fuzzyToolIndex,
+                          SimilarToolsService similarToolsService,
+                          CoReviewRecommender coReviewRecommender,
+                          TrendingToolsService trendingToolsService,
+                          StaleWhileRevalidateCache staleCache,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${aitools.delete.review-chunk-size:1000}") int deleteChunkSize,
+                          @Value("${aitools.batch.max-ids:100}") int maxBatchIds) {
+        this.aiToolsRepo = aiToolsRepo;
+        this.adminRepo = adminRepo;
+        this.reveiwsRepo = reveiwsRepo;
+        this.tombstoneRepo = tombstoneRepo;
+        this.catalogVersionService = catalogVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.catalogCache = catalogCache;
+        this.fuzzyToolIndex = fuzzyToolIndex;
+        this.similarToolsService = similarToolsService;
+        this.coReviewRecommender = coReviewRecommender;
+        this.trendingToolsService = trendingToolsService;
+        this.staleCache = staleCache;
+        this.eventPublisher = eventPublisher;
+        this.deleteChunkSize = deleteChunkSize;
+        this.maxBatchIds = maxBatchIds;
+    }
+
+    public List<AiTools> getAiToolsByAdminId(Long adminId) {
+        return aiToolsRepo.findByAdminId(adminId);
+    }
+
+    public List<AiTools> getAllAiTools() {
+        if (catalogCache.isReady()) {
+            return catalogCache.getAll();
+        }
+        return staleCache.read("tools:all", aiToolsRepo::findAll);
+    }
+    // Batch lookup for listing pages: ids deduplicated and capped, results in request order, unknown ids skipped
+    public List<AiTools> getAiToolsByIds(List<Long> ids) {
+        return findAllInOrder(batchIds(ids));
+    }
+
+    public List<Map<String, Object>> getAiToolsByIds(List<Long> ids, List<String> fields) {
+        return findFieldsInOrder(batchIds(ids), fields);
+    }
+
+    private List<Long> batchIds(List<Long> ids) {
+        return ids.stream().filter(Objects::nonNull).distinct().limit(maxBatchIds).toList();
+    }
+
+    // Sparse fieldset variant: from the catalog cache when ready, otherwise only those columns are selected
+    public List<Map<String, Object>> getAllAiTools(List<String> fields) {
+        if (catalogCache.isReady()) {
+            return project(catalogCache.getAll(), fields);
+        }
+        return aiToolsRepo.findFields(fields, null, null, null, null);
+    }
+
+    public AiTools getAiToolByIdAndAdminId(Long toolId, Long adminId) {
+        return aiToolsRepo.findByIdAndAdminId(toolId, adminId)
+                .orElseThrow(() -> new RuntimeException("AI Tool not found or does not belong to this admin"));
+    }
+
+    public AiTools getAiToolById(Long toolId) {
+        if (catalogCache.isReady()) {
+            return catalogCache.get(toolId)
+                    .orElseThrow(() -> new RuntimeException("AI Tool not found with id: " + toolId));
+        }
+        // concurrent requests for the same tool share one findById inside the stale cache
+        return staleCache.read("tool:" + toolId, () -> aiToolsRepo.findById(toolId))
+                .orElseThrow(() -> new RuntimeException("AI Tool not found with id: " + toolId));
+    }
+
+    @Transactional
+    public AiTools createAiTool(Long adminId, AiTools aiTool) {
+        Admin admin = adminRepo.findById(adminId)
+                .orElseThrow(() -> new RuntimeException("Admin not found with id: " + adminId));
+
+        aiTool.setAdmin(admin);
+        aiTool.setChangeVersion(catalogVersionService.nextVersion());
+        AiTools savedTool = aiToolsRepo.save(aiTool);
+        eventPublisher.publishEvent(new AiToolChangedEvent(savedTool.getId(), AiToolChangedEvent.ChangeType.CREATED));
+        return savedTool;
+    }
+
+    @Transactional
+    public AiTools updateAiTool(Long toolId, Long adminId, AiTools updatedTool) {
+        AiTools existingTool = aiToolsRepo.findByIdAndAdminId(toolId, adminId)
+                .orElseThrow(() -> new RuntimeException("AI Tool not found or does not belong to this admin"));
+
+        // Update fields
+        existingTool.setName(updatedTool.getName());
+        existingTool.setDecription(updatedTool.getDecription());
+        existingTool.setUsecases(updatedTool.getUsecases());
+        existingTool.setCategory(updatedTool.getCategory());
+        existingTool.setPricingtype(updatedTool.getPricingtype());
+        existingTool.setRating(updatedTool.getRating());
+        existingTool.setChangeVersion(catalogVersionService.nextVersion());
+
+        AiTools savedTool = aiToolsRepo.save(existingTool);
+        eventPublisher.publishEvent(new AiToolChangedEvent(toolId, AiToolChangedEvent.ChangeType.UPDATED));
+        return savedTool;
+    }
+
+    /**
+     * Deletes a tool and its reviews with set-based DELETEs instead of letting the
+     * cascade load and remove every review row by row. Reviews go in short chunked
+     * transactions, then the stragglers and the tool go together in a final one.
+     * Each chunk first locks the tool row and re-checks that it still exists and belongs
+     * to the admin, so no review is deleted for a tool that is not being deleted.
+     * Chunks commit independently: if the process dies part-way, the tool is still there
+     * with some of its reviews gone, and calling delete again finishes the job.
+     */
+    public void deleteAiTool(Long toolId, Long adminId) {
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                if (aiToolsRepo.findWithLockByIdAndAdminId(toolId, adminId).isEmpty()) {
+                    throw new RuntimeException("AI Tool not found or does not belong to this admin");
+                }
+                return reveiwsRepo.deleteChunkByAiToolId(toolId, deleteChunkSize);
+            });
+        } while (deleted != null && deleted == deleteChunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // picks up reviews submitted while the chunks were running
+            reveiwsRepo.deleteAllByAiToolId(toolId);
+            if (aiToolsRepo.deleteByIdAndAdminId(toolId, adminId) == 0) {
+                throw new RuntimeException("AI Tool not found or does not belong to this admin");
+            }
+            tombstoneRepo.save(new AiToolTombstone(toolId, catalogVersionService.nextVersion(), Instant.now()));
+            eventPublisher.publishEvent(new AiToolChangedEvent(toolId, AiToolChangedEvent.ChangeType.DELETED));
+        });
+    }
+
+    /**
+     * Tools created/updated and tools deleted after the given change version, merged in
+     * version order and cut at limit. Both sides are indexed range scans on change_version.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getChangesSince(long since, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<AiTools> changed = aiToolsRepo.findByChangeVersionGreaterThanOrderByChangeVersionAsc(since, page);
+        List<AiToolTombstone> deleted = tombstoneRepo.findByChangeVersionGreaterThanOrderByChangeVersionAsc(since, page);
+
+        List<AiTools> upserts = new ArrayList<>();
+        List<Map<String, Object>> deletes = new ArrayList<>();
+        long lastVersion = since;
+        int i = 0;
+        int j = 0;
+        while (upserts.size() + deletes.size() < limit && (i < changed.size() || j < deleted.size())) {
+            boolean takeTool = j >= deleted.size()
+                    || (i < changed.size() && changed.get(i).getChangeVersion() < deleted.get(j).getChangeVersion());
+            if (takeTool) {
+                AiTools tool = changed.get(i++);
+                upserts.add(tool);
+                lastVersion = tool.getChangeVersion();
+            } else {
+                AiToolTombstone tombstone = deleted.get(j++);
+                Map<String, Object> delete = new HashMap<>();
+                delete.put("id", tombstone.getToolId());
+                delete.put("changeVersion", tombstone.getChangeVersion());
+                deletes.add(delete);
+                lastVersion = tombstone.getChangeVersion();
+            }
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("upserted", upserts);
+        response.put("deleted", deletes);
+        response.put("nextSince", lastVersion);
+        response.put("hasMore", i < changed.size() || j < deleted.size()
+                || upserts.size() + deletes.size() == limit);
+        return response;
+    }
+
+    public boolean isToolOwnedByAdmin(Long toolId, Long adminId) {
+        return aiToolsRepo.findByIdAndAdminId(toolId, adminId).isPresent();
+    }
+
+    // The filter query cannot use an index, so it only runs while the catalog cache is warming
+    public List<AiTools> getFilteredTools(String category,Double rating, String price){
+        if (catalogCache.isReady()) {
+            return filterCatalog(category, rating, price);
+        }
+        return staleCache.read("tools:filter:" + category + ":" + price + ":" + rating,
+                () -> aiToolsRepo.filterTools(category,price,rating));
+    }
+
+    public List<Map<String, Object>> getFilteredTools(String category, Double rating, String price, List<String> fields) {
+        if (catalogCache.isReady()) {
+            return project(filterCatalog(category, rating, price), fields);
+        }
+        return aiToolsRepo.findFields(fields, category, price, rating, null);
+    }
+
+    // Same semantics as AiToolsRepo.filterTools: case-insensitive equality, minimum rating, null skips a filter
+    private List<AiTools> filterCatalog(String category, Double rating, String price) {
+        return catalogCache.getAll().stream()
+                .filter(tool -> category == null || category.equalsIgnoreCase(tool.getCategory()))
+                .filter(tool -> price == null || price.equalsIgnoreCase(tool.getPricingtype()))
+                .filter(tool -> rating == null || tool.getRating() >= rating)
+                .toList();
+    }
+
+    public List<AiTools> searchTools(String query, Integer maxDistance, int limit) {
+        List<FuzzyToolIndex.Match> matches = fuzzyToolIndex.search(query, maxDistance, limit);
+        // Keep the index ranking (distance, then rating)
+        return findAllInOrder(matches.stream().map(FuzzyToolIndex.Match::toolId).toList());
+    }
+
+    public List<Map<String, Object>> searchTools(String query, Integer maxDistance, int limit, List<String> fields) {
+        return findFieldsInOrder(fuzzyToolIndex.search(query, maxDistance, limit).stream()
+                .map(FuzzyToolIndex.Match::toolId)
+                .toList(), fields);
+    }
+
+    private List<Map<String, Object>> findFieldsInOrder(List<Long> ids, List<String> fields) {
+        if (catalogCache.isReady()) {
+            return project(findAllInOrder(ids), fields);
+        }
+        // back into the requested order; id is always part of a fieldset
+        Map<Object, Map<String, Object>> rowsById = aiToolsRepo.findFields(fields, null, null, null, ids).stream()
+                .collect(Collectors.toMap(row -> row.get("id"), Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<Map<String, Object>> project(List<AiTools> tools, List<String> fields) {
+        return tools.stream()
+                .map(tool -> AiToolFields.project(tool, fields))
+                .toList();
+    }
+
+    public List<AiTools> getSimilarTools(Long toolId) {
+        return findAllInOrder(similarToolsService.getSimilarToolIds(toolId));
+    }
+
+    public List<AiTools> getRelatedTools(Long toolId) {
+        return findAllInOrder(Arrays.stream(coReviewRecommender.getRelatedToolIds(toolId)).boxed().toList());
+    }
+
+    public List<Map<String, Object>> getTrendingTools(int limit) {
+        List<TrendingToolsService.TrendingTool> trending = trendingToolsService.getTrending(limit);
+        Map<Long, AiTools> toolsById = findAllInOrder(trending.stream().map(TrendingToolsService.TrendingTool::toolId).toList())
+                .stream()
+                .collect(Collectors.toMap(AiTools::getId, Function.identity()));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (TrendingToolsService.TrendingTool entry : trending) {
+            AiTools tool = toolsById.get(entry.toolId());
+            if (tool == null) {
+                continue;
+            }
+            Map<String, Object> item = new HashMap<>();
+            item.put("tool", tool);
+            item.put("approvedReviews", entry.approvedReviews());
+            item.put("averageRating", entry.averageRating());
+            item.put("score", entry.score());
+            result.add(item);
+        }
+        return result;
+    }
+
+    private List<AiTools> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (catalogCache.isReady()) {
+            return ids.stream()
+                    .map(catalogCache::get)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
+        Map<Long, AiTools> toolsById = aiToolsRepo.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(AiTools::getId, Function.identity()));
+        return ids.stream()
+                .map(toolsById::get)
+                .filter(tool -> tool != null)
+                .toList();
+    }
+
+}
+
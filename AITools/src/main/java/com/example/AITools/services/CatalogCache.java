@@ -0,0 +1,244 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.model.AiToolTombstone;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.model.CatalogVersion;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.AiToolTombstoneRepo;
+import com.example.AITools.repository.AiToolsRepo;
+import com.example.AITools.repository.CatalogVersionRepo;
+import com.example.AITools.repository.ReveiwsRepo;
+import com.example.AITools.services.CatalogSnapshotService.RatingAggregate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory read model of the public catalog: every tool plus its approved-review
+ * rating aggregate. At startup it loads the binary snapshot (see CatalogSnapshotService)
+ * before the web server takes traffic, then catches up on changes made after the
+ * snapshot version. Without a usable snapshot, reads go to the database until the
+ * first full load is done.
+ * Writes made by other nodes never reach this node's event listeners, so tool changes and
+ * deletes are also pulled by catalog change version every aitools.catalog.sync-ms, and the
+ * rating aggregates are reloaded every aitools.catalog.ratings-sync-ms.
+ */
+@Service
+public class CatalogCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogCache.class);
+
+    private final AiToolsRepo aiToolsRepo;
+    private final ReveiwsRepo reveiwsRepo;
+    private final AiToolTombstoneRepo tombstoneRepo;
+    private final CatalogVersionRepo catalogVersionRepo;
+    private final CatalogSnapshotService snapshotService;
+    private final int syncPageSize;
+
+    private final NavigableMap<Long, AiTools> tools = new ConcurrentSkipListMap<>();
+    private final Map<Long, RatingAggregate> ratings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private volatile Instant snapshotVersion;
+    // Every catalog change up to this version is applied; -1 until the startup catch-up ran
+    private volatile long syncedVersion = -1;
+
+    public CatalogCache(AiToolsRepo aiToolsRepo,
+                        ReveiwsRepo reveiwsRepo,
+                        AiToolTombstoneRepo tombstoneRepo,
+                        CatalogVersionRepo catalogVersionRepo,
+                        CatalogSnapshotService snapshotService,
+                        @Value("${aitools.catalog.sync-page-size:500}") int syncPageSize) {
+        this.aiToolsRepo = aiToolsRepo;
+        this.reveiwsRepo = reveiwsRepo;
+        this.tombstoneRepo = tombstoneRepo;
+        this.catalogVersionRepo = catalogVersionRepo;
+        this.snapshotService = snapshotService;
+        this.syncPageSize = syncPageSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<AiTools> getAll() {
+        return new ArrayList<>(tools.values());
+    }
+
+    public Optional<AiTools> get(Long toolId) {
+        return Optional.ofNullable(tools.get(toolId));
+    }
+
+    public RatingAggregate getRating(Long toolId) {
+        return ratings.getOrDefault(toolId, RatingAggregate.EMPTY);
+    }
+
+    @PostConstruct
+    void warmStart() {
+        long start = System.nanoTime();
+        snapshotService.read().ifPresent(snapshot -> {
+            snapshot.tools().forEach(tool -> tools.put(tool.getId(), tool));
+            ratings.putAll(snapshot.ratings());
+            snapshotVersion = snapshot.catalogVersion();
+            ready = true;
+            log.info("Catalog loaded from snapshot ({} tools) in {} ms",
+                    tools.size(), (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    /**
+     * Brings the cache up to date with the database: only tools changed since the
+     * snapshot version when a snapshot was loaded, otherwise a full load.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void catchUp() {
+        // read first: everything up to this version is committed and visible to the loads below
+        long version = committedVersion();
+        Instant since = snapshotVersion;
+        List<AiTools> changed = since == null ? aiToolsRepo.findAll() : aiToolsRepo.findByUpdatedAtGreaterThanEqual(since);
+        changed.forEach(this::put);
+        if (since != null) {
+            // deletes leave no row behind, so reconcile against the live id set
+            tools.keySet().retainAll(new HashSet<>(aiToolsRepo.findAllIds()));
+        }
+        reloadRatings();
+        syncedVersion = version;
+        ready = true;
+    }
+
+    /**
+     * Applies tools written or deleted since the last sync, by this node or any other.
+     * Only versions up to the committed counter value are applied: versions are allocated
+     * under a row lock, so nothing at or below it can still commit later.
+     */
+    @Scheduled(fixedDelayString = "${aitools.catalog.sync-ms:30000}")
+    public synchronized void syncChanges() {
+        long since = syncedVersion;
+        if (since < 0) {
+            return;
+        }
+        long upTo = committedVersion();
+        if (upTo <= since) {
+            return;
+        }
+        PageRequest page = PageRequest.of(0, syncPageSize);
+        long cursor = since;
+        boolean more = true;
+        while (more) {
+            List<AiTools> changed = aiToolsRepo.findByChangeVersionGreaterThanOrderByChangeVersionAsc(cursor, page);
+            more = changed.size() == syncPageSize;
+            for (AiTools tool : changed) {
+                if (tool.getChangeVersion() > upTo) {
+                    more = false;
+                    break;
+                }
+                put(tool);
+                cursor = tool.getChangeVersion();
+            }
+        }
+
+        cursor = since;
+        more = true;
+        while (more) {
+            List<AiToolTombstone> deleted = tombstoneRepo.findByChangeVersionGreaterThanOrderByChangeVersionAsc(cursor, page);
+            more = deleted.size() == syncPageSize;
+            for (AiToolTombstone tombstone : deleted) {
+                if (tombstone.getChangeVersion() > upTo) {
+                    more = false;
+                    break;
+                }
+                tools.remove(tombstone.getToolId());
+                ratings.remove(tombstone.getToolId());
+                cursor = tombstone.getChangeVersion();
+            }
+        }
+        syncedVersion = upTo;
+    }
+
+    // Review moderation on other nodes only reaches the aggregates through this reload
+    @Scheduled(fixedDelayString = "${aitools.catalog.ratings-sync-ms:300000}",
+            initialDelayString = "${aitools.catalog.ratings-sync-ms:300000}")
+    public void syncRatings() {
+        if (syncedVersion >= 0) {
+            reloadRatings();
+        }
+    }
+
+    private long committedVersion() {
+        return catalogVersionRepo.findById(CatalogVersion.SINGLETON_ID).map(CatalogVersion::getValue).orElse(0L);
+    }
+
+    private void reloadRatings() {
+        Map<Long, RatingAggregate> fresh = new HashMap<>();
+        for (Object[] row : reveiwsRepo.aggregateRatingsByStatus(Reveiws.ReviewStatus.APPROVED)) {
+            fresh.put((Long) row[0], new RatingAggregate((Long) row[1], ((Number) row[2]).doubleValue()));
+        }
+        ratings.keySet().retainAll(fresh.keySet());
+        ratings.putAll(fresh);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onToolChanged(AiToolChangedEvent event) {
+        if (event.type() == AiToolChangedEvent.ChangeType.DELETED) {
+            tools.remove(event.toolId());
+            ratings.remove(event.toolId());
+        } else {
+            aiToolsRepo.findById(event.toolId()).ifPresent(this::put);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.wasApproved() == event.isApproved() || event.rating() == null) {
+            return;
+        }
+        ratings.compute(event.aiToolId(), (id, current) -> {
+            RatingAggregate base = current == null ? RatingAggregate.EMPTY : current;
+            RatingAggregate updated = event.isApproved() ? base.plus(event.rating()) : base.minus(event.rating());
+            return updated.count() == 0 ? null : updated;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${aitools.snapshot.interval-ms:300000}")
+    @PreDestroy
+    public void writeSnapshot() {
+        if (!ready) {
+            return;
+        }
+        List<AiTools> current = getAll();
+        Instant version = current.stream()
+                .map(AiTools::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(Instant.EPOCH);
+        try {
+            snapshotService.write(version, current, Map.copyOf(ratings));
+        } catch (IOException e) {
+            log.warn("Could not write catalog snapshot: {}", e.getMessage());
+        }
+    }
+
+    // Detached copy without the lazy admin/reviews associations
+    private void put(AiTools tool) {
+        AiTools copy = new AiTools(tool.getId(), tool.getName(), tool.getDecription(), tool.getUsecases(),
+                tool.getCategory(), tool.getPricingtype(), tool.getRating(), null);
+        copy.setUpdatedAt(tool.getUpdatedAt());
+        copy.setChangeVersion(tool.getChangeVersion());
+        tools.put(copy.getId(), copy);
+    }
+}
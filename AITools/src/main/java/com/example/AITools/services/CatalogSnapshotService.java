@@ -0,0 +1,202 @@
+package com.example.AITools.services;
+
+import com.example.AITools.model.AiTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes the binary catalog snapshot used for warm starts.
+ *
+ * Layout (big endian):
+ * magic "AITS" | format version (short) | catalog version (epoch millis, long) |
+ * written at (epoch millis, long) | tool count (int) | tools... | CRC32 of everything before (long)
+ *
+ * Each tool is id, rating, approved review count, approved rating sum, updatedAt, changeVersion,
+ * then name, description, use cases, category and pricing type as length-prefixed UTF-8.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private static final int MAGIC = 0x41495453; // "AITS"
+    private static final short FORMAT_VERSION = 2;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Path snapshotFile;
+    private final Duration maxAge;
+
+    public CatalogSnapshotService(@Value("${aitools.snapshot.path:data/catalog.snapshot}") String snapshotPath,
+                                  @Value("${aitools.snapshot.max-age-hours:24}") long maxAgeHours) {
+        this.snapshotFile = Path.of(snapshotPath);
+        this.maxAge = Duration.ofHours(maxAgeHours);
+    }
+
+    public record RatingAggregate(long count, double sum) {
+
+        public static final RatingAggregate EMPTY = new RatingAggregate(0, 0);
+
+        public double average() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        public RatingAggregate plus(double rating) {
+            return new RatingAggregate(count + 1, sum + rating);
+        }
+
+        public RatingAggregate minus(double rating) {
+            return count <= 1 ? EMPTY : new RatingAggregate(count - 1, sum - rating);
+        }
+    }
+
+    public record Snapshot(Instant catalogVersion, List<AiTools> tools, Map<Long, RatingAggregate> ratings) {
+    }
+
+    /**
+     * Memory-maps and decodes the snapshot. Empty when the file is missing, older than
+     * the configured max age, from another format version, or fails its checksum.
+     */
+    public Optional<Snapshot> read() {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Integer.BYTES + Short.BYTES + 2 * Long.BYTES + Integer.BYTES + Long.BYTES) {
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - Long.BYTES));
+            if (crc.getValue() != buffer.getLong((int) size - Long.BYTES)) {
+                log.warn("Catalog snapshot checksum mismatch, falling back to the database");
+                return Optional.empty();
+            }
+
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            Instant catalogVersion = Instant.ofEpochMilli(buffer.getLong());
+            Instant writtenAt = Instant.ofEpochMilli(buffer.getLong());
+            if (writtenAt.plus(maxAge).isBefore(Instant.now())) {
+                return Optional.empty();
+            }
+
+            int count = buffer.getInt();
+            List<AiTools> tools = new ArrayList<>(count);
+            Map<Long, RatingAggregate> ratings = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                AiTools tool = new AiTools();
+                tool.setId(buffer.getLong());
+                tool.setRating(buffer.getDouble());
+                long reviewCount = buffer.getLong();
+                double ratingSum = buffer.getDouble();
+                long updatedAt = buffer.getLong();
+                tool.setUpdatedAt(updatedAt == NO_TIMESTAMP ? null : Instant.ofEpochMilli(updatedAt));
+                tool.setChangeVersion(buffer.getLong());
+                tool.setName(readString(buffer));
+                tool.setDecription(readString(buffer));
+                tool.setUsecases(readString(buffer));
+                tool.setCategory(readString(buffer));
+                tool.setPricingtype(readString(buffer));
+                tools.add(tool);
+                if (reviewCount > 0) {
+                    ratings.put(tool.getId(), new RatingAggregate(reviewCount, ratingSum));
+                }
+            }
+            return Optional.of(new Snapshot(catalogVersion, tools, ratings));
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Catalog snapshot unreadable, falling back to the database: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file and atomically moves it into place,
+     * so readers never see a half-written file.
+     */
+    public void write(Instant catalogVersion, Collection<AiTools> tools, Map<Long, RatingAggregate> ratings) throws IOException {
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "catalog", ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream fileOut = Files.newOutputStream(tempFile);
+                 BufferedOutputStream buffered = new BufferedOutputStream(fileOut, 64 * 1024)) {
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                out.writeLong(catalogVersion.toEpochMilli());
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(tools.size());
+                for (AiTools tool : tools) {
+                    RatingAggregate aggregate = ratings.getOrDefault(tool.getId(), RatingAggregate.EMPTY);
+                    out.writeLong(tool.getId());
+                    out.writeDouble(tool.getRating());
+                    out.writeLong(aggregate.count());
+                    out.writeDouble(aggregate.sum());
+                    out.writeLong(tool.getUpdatedAt() == null ? NO_TIMESTAMP : tool.getUpdatedAt().toEpochMilli());
+                    out.writeLong(tool.getChangeVersion());
+                    writeString(out, tool.getName());
+                    writeString(out, tool.getDecription());
+                    writeString(out, tool.getUsecases());
+                    writeString(out, tool.getCategory());
+                    writeString(out, tool.getPricingtype());
+                }
+                out.flush();
+                // the checksum itself is written around the CheckedOutputStream
+                new DataOutputStream(buffered).writeLong(crc.getValue());
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.AITools.services;
+
+import com.example.AITools.model.CatalogVersion;
+import com.example.AITools.repository.AiToolsRepo;
+import com.example.AITools.repository.CatalogVersionRepo;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class CatalogVersionService {
+
+    private final CatalogVersionRepo catalogVersionRepo;
+    private final AiToolsRepo aiToolsRepo;
+
+    public CatalogVersionService(CatalogVersionRepo catalogVersionRepo, AiToolsRepo aiToolsRepo) {
+        this.catalogVersionRepo = catalogVersionRepo;
+        this.aiToolsRepo = aiToolsRepo;
+    }
+
+    /**
+     * Allocates the next catalog change version inside the caller's transaction.
+     * The counter row stays locked until that transaction ends, so a reader never sees
+     * version n+1 committed while version n is still in flight.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextVersion() {
+        CatalogVersion version = catalogVersionRepo.findByIdForUpdate(CatalogVersion.SINGLETON_ID)
+                .orElseGet(() -> catalogVersionRepo.saveAndFlush(new CatalogVersion(CatalogVersion.SINGLETON_ID, 0)));
+        version.setValue(version.getValue() + 1);
+        return version.getValue();
+    }
+
+    /**
+     * Gives rows written before change versions existed a version of their own,
+     * so delta-sync paging never has to split a run of equal versions.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMissingVersions() {
+        List<Long> ids = aiToolsRepo.findIdsWithoutChangeVersion();
+        for (Long id : ids) {
+            aiToolsRepo.setChangeVersion(id, nextVersion());
+        }
+    }
+}
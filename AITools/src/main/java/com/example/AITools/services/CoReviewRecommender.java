@@ -0,0 +1,335 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.ReveiwsRepo;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongComparator;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "People who reviewed X also reviewed Y".
+ * Keeps a sparse item-item matrix counting how many distinct usernames have approved
+ * reviews on both tools. Approvals and deletes update it in place. Each tool's ranked
+ * list is cached, so serving it is a single map lookup.
+ * A matrix row keeps at most max-neighbours tools; when it grows past that, the tools with
+ * the lowest counts are dropped, so the counts are approximate at the tail of long rows.
+ *
+ * A rebuild scans the table into a new matrix without holding the lock, inside one
+ * repeatable-read transaction, and swaps it in at the end. Reviews changed while it runs
+ * are remembered; before the swap their status in the scan's snapshot is looked up, and
+ * only the difference to their latest status is applied, so nothing is counted twice.
+ */
+@Service
+public class CoReviewRecommender {
+
+    private static final Logger log = LoggerFactory.getLogger(CoReviewRecommender.class);
+    private static final long[] NONE = new long[0];
+
+    private final ReveiwsRepo reveiwsRepo;
+    private final TransactionTemplate snapshotTransaction;
+    private final int maxRelated;
+    private final int chunkSize;
+    private final int maxNeighbours;
+
+    private Matrix matrix;
+    private final Map<Long, long[]> relatedCache = new ConcurrentHashMap<>();
+    private final Object rebuildLock = new Object();
+    // non-null while a rebuild runs: latest event per review id, and deleted tools
+    private Map<Long, ReviewChangedEvent> changedDuringRebuild;
+    private Set<Long> deletedDuringRebuild;
+
+    public CoReviewRecommender(ReveiwsRepo reveiwsRepo,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${aitools.related.max:10}") int maxRelated,
+                               @Value("${aitools.related.rebuild-chunk-size:5000}") int chunkSize,
+                               @Value("${aitools.related.max-neighbours:200}") int maxNeighbours) {
+        this.reveiwsRepo = reveiwsRepo;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.maxRelated = maxRelated;
+        this.chunkSize = chunkSize;
+        this.maxNeighbours = maxNeighbours;
+        this.matrix = new Matrix(maxNeighbours);
+    }
+
+    public long[] getRelatedToolIds(long toolId) {
+        long[] cached = relatedCache.get(toolId);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            return relatedCache.computeIfAbsent(toolId, this::rank);
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onReviewChanged(ReviewChangedEvent event) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(event.reviewId(), event);
+        }
+        if (!event.wasApproved() && event.isApproved()) {
+            invalidate(matrix.add(event.username(), event.aiToolId()));
+        } else if (event.wasApproved() && !event.isApproved()) {
+            invalidate(matrix.remove(event.username(), event.aiToolId()));
+        }
+    }
+
+    /**
+     * A tool delete removes its reviews in bulk without per-review events,
+     * so drop the tool from every user and every matrix row here.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onToolChanged(AiToolChangedEvent event) {
+        if (event.type() != AiToolChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        if (deletedDuringRebuild != null) {
+            deletedDuringRebuild.add(event.toolId());
+        }
+        invalidate(matrix.removeTool(event.toolId()));
+        relatedCache.remove(event.toolId());
+    }
+
+    /**
+     * The first build scans every approved review, so it runs off the startup thread;
+     * related-tool lists are empty until it finishes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofPlatform().name("co-review-rebuild").daemon().start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Initial co-review build failed; rebuild it through /api/reviews/related/rebuild", e);
+            }
+        });
+    }
+
+    /**
+     * Full rebuild from the reviews table, reading approved (tool, username) pairs
+     * in keyset-paged chunks so the whole table is never held in memory.
+     * The current matrix keeps serving until the new one is swapped in.
+     */
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changedDuringRebuild = new LinkedHashMap<>();
+                deletedDuringRebuild = new HashSet<>();
+            }
+            try {
+                Integer scanned = snapshotTransaction.execute(status -> scanAndSwap());
+                return scanned == null ? 0 : scanned;
+            } finally {
+                synchronized (this) {
+                    changedDuringRebuild = null;
+                    deletedDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    private int scanAndSwap() {
+        Matrix fresh = new Matrix(maxNeighbours);
+        int scanned = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> chunk = reveiwsRepo.findReviewerChunk(
+                    Reveiws.ReviewStatus.APPROVED, afterId, PageRequest.of(0, chunkSize));
+            for (Object[] row : chunk) {
+                fresh.add((String) row[2], (Long) row[1]);
+                afterId = (Long) row[0];
+            }
+            scanned += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        synchronized (this) {
+            // the scan saw each changed review as it was in this transaction's snapshot
+            Set<Long> approvedInSnapshot = new HashSet<>();
+            reveiwsRepo.findAllById(changedDuringRebuild.keySet()).forEach(review -> {
+                if (review.getStatus() == Reveiws.ReviewStatus.APPROVED) {
+                    approvedInSnapshot.add(review.getId());
+                }
+            });
+            for (ReviewChangedEvent event : changedDuringRebuild.values()) {
+                boolean scannedApproved = approvedInSnapshot.contains(event.reviewId());
+                if (event.isApproved() && !scannedApproved) {
+                    fresh.add(event.username(), event.aiToolId());
+                } else if (!event.isApproved() && scannedApproved) {
+                    fresh.remove(event.username(), event.aiToolId());
+                }
+            }
+            deletedDuringRebuild.forEach(fresh::removeTool);
+            matrix = fresh;
+            relatedCache.clear();
+        }
+        return scanned;
+    }
+
+    private void invalidate(long[] toolIds) {
+        for (long toolId : toolIds) {
+            relatedCache.remove(toolId);
+        }
+    }
+
+    private long[] rank(long toolId) {
+        Long2IntOpenHashMap row = matrix.coOccurrence.get(toolId);
+        if (row == null || row.isEmpty()) {
+            return NONE;
+        }
+        LongArrayList ids = new LongArrayList(row.size());
+        for (Long2IntMap.Entry entry : row.long2IntEntrySet()) {
+            ids.add(entry.getLongKey());
+        }
+        ids.sort((LongComparator) (a, b) -> {
+            int byCount = Integer.compare(row.get(b), row.get(a));
+            return byCount != 0 ? byCount : Long.compare(a, b);
+        });
+        return ids.size() > maxRelated ? ids.subList(0, maxRelated).toLongArray() : ids.toLongArray();
+    }
+
+    // Not thread-safe on its own: the live matrix is only touched under the recommender's lock
+    private static final class Matrix {
+
+        private final int maxNeighbours;
+        // username -> (toolId -> number of approved reviews by that user on the tool)
+        private final Map<String, Long2IntOpenHashMap> toolsByUser = new HashMap<>();
+        // toolId -> (otherToolId -> number of users who reviewed both)
+        private final Long2ObjectOpenHashMap<Long2IntOpenHashMap> coOccurrence = new Long2ObjectOpenHashMap<>();
+
+        Matrix(int maxNeighbours) {
+            this.maxNeighbours = maxNeighbours;
+        }
+
+        // Returns the tools whose rows changed
+        long[] add(String username, long toolId) {
+            Long2IntOpenHashMap userTools = toolsByUser.computeIfAbsent(username, u -> new Long2IntOpenHashMap());
+            if (userTools.addTo(toolId, 1) > 0) {
+                // user had already reviewed this tool, pairs are unchanged
+                return NONE;
+            }
+            long[] others = userTools.keySet().toLongArray();
+            for (long other : others) {
+                if (other != toolId) {
+                    adjust(toolId, other, 1);
+                    adjust(other, toolId, 1);
+                }
+            }
+            return others;
+        }
+
+        long[] remove(String username, long toolId) {
+            Long2IntOpenHashMap userTools = toolsByUser.get(username);
+            if (userTools == null || !userTools.containsKey(toolId)) {
+                return NONE;
+            }
+            if (userTools.addTo(toolId, -1) > 1) {
+                return NONE;
+            }
+            userTools.remove(toolId);
+            long[] others = userTools.keySet().toLongArray();
+            for (long other : others) {
+                adjust(toolId, other, -1);
+                adjust(other, toolId, -1);
+            }
+            if (userTools.isEmpty()) {
+                toolsByUser.remove(username);
+            }
+            long[] changed = Arrays.copyOf(others, others.length + 1);
+            changed[others.length] = toolId;
+            return changed;
+        }
+
+        long[] removeTool(long toolId) {
+            toolsByUser.values().removeIf(userTools -> {
+                userTools.remove(toolId);
+                return userTools.isEmpty();
+            });
+            Long2IntOpenHashMap row = coOccurrence.remove(toolId);
+            if (row == null) {
+                return NONE;
+            }
+            long[] others = row.keySet().toLongArray();
+            for (long other : others) {
+                Long2IntOpenHashMap otherRow = coOccurrence.get(other);
+                if (otherRow != null) {
+                    otherRow.remove(toolId);
+                    if (otherRow.isEmpty()) {
+                        coOccurrence.remove(other);
+                    }
+                }
+            }
+            return others;
+        }
+
+        private void adjust(long toolId, long other, int delta) {
+            Long2IntOpenHashMap row = coOccurrence.get(toolId);
+            if (row == null) {
+                row = new Long2IntOpenHashMap();
+                coOccurrence.put(toolId, row);
+            }
+            if (row.addTo(other, delta) + delta <= 0) {
+                row.remove(other);
+                if (row.isEmpty()) {
+                    coOccurrence.remove(toolId);
+                }
+            } else if (row.size() > maxNeighbours) {
+                prune(row);
+            }
+        }
+
+        // Drops the lowest counts down to three quarters of the cap, so pruning is amortised
+        private void prune(Long2IntOpenHashMap row) {
+            int keep = maxNeighbours * 3 / 4;
+            int[] counts = row.values().toIntArray();
+            IntArrays.quickSort(counts);
+            int cutoff = counts[counts.length - keep];
+            int atCutoff = 0;
+            for (int i = counts.length - keep; i < counts.length && counts[i] == cutoff; i++) {
+                atCutoff++;
+            }
+            ObjectIterator<Long2IntMap.Entry> entries = row.long2IntEntrySet().fastIterator();
+            while (entries.hasNext()) {
+                int count = entries.next().getIntValue();
+                if (count < cutoff) {
+                    entries.remove();
+                } else if (count == cutoff) {
+                    if (atCutoff > 0) {
+                        atCutoff--;
+                    } else {
+                        entries.remove();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.AITools.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker over public-read database loads. The last window-size outcomes are kept
+ * in a ring; a load counts as bad if it failed or took longer than slow-call-ms. Once at
+ * least min-calls are recorded and the bad share reaches failure-rate, the breaker opens
+ * and loads are refused for open-ms. After that a single trial load is let through: success
+ * closes the breaker, failure opens it again. The trial is identified by the permit it was
+ * given, so results of loads started before the breaker opened cannot decide it.
+ */
+@Service
+public class DbCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // NORMAL while closed; TRIAL for the one half-open load
+    public enum Permit { NORMAL, TRIAL }
+
+    private final long slowCallNanos;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int bad;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private long timesOpened;
+
+    @Autowired
+    public DbCircuitBreaker(@Value("${aitools.circuit.slow-call-ms:1000}") long slowCallMs,
+                            @Value("${aitools.circuit.window-size:50}") int windowSize,
+                            @Value("${aitools.circuit.min-calls:10}") int minCalls,
+                            @Value("${aitools.circuit.failure-rate:0.5}") double failureRate,
+                            @Value("${aitools.circuit.open-ms:10000}") long openMs) {
+        this(slowCallMs, windowSize, minCalls, failureRate, openMs, System::nanoTime);
+    }
+
+    // nanoClock stands in for System.nanoTime, so tests can move time forward
+    public DbCircuitBreaker(long slowCallMs, int windowSize, int minCalls, double failureRate, long openMs,
+                            LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.outcomes = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRate = failureRate;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+    }
+
+    /**
+     * Permit for a load to go to the database now, or null if it may not. While open this is
+     * null, except for the one caller that gets the TRIAL permit once open-ms has passed.
+     * The result of every permitted load must be passed back to record with its permit.
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.CLOSED) {
+            return Permit.NORMAL;
+        }
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            return Permit.TRIAL;
+        }
+        return null;
+    }
+
+    public synchronized void record(Permit permit, long nanos, boolean failed) {
+        boolean isBad = failed || nanos > slowCallNanos;
+        if (permit == Permit.TRIAL) {
+            if (state == State.HALF_OPEN) {
+                if (isBad) {
+                    open();
+                } else {
+                    reset();
+                }
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // a load started before the breaker opened; only the trial decides from here
+            return;
+        }
+        if (recorded == outcomes.length && outcomes[next]) {
+            bad--;
+        }
+        outcomes[next] = isBad;
+        if (isBad) {
+            bad++;
+        }
+        next = (next + 1) % outcomes.length;
+        recorded = Math.min(recorded + 1, outcomes.length);
+        if (recorded >= minCalls && bad >= failureRate * recorded) {
+            open();
+        }
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state);
+        stats.put("recentCalls", recorded);
+        stats.put("recentBadCalls", bad);
+        stats.put("timesOpened", timesOpened);
+        return stats;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        timesOpened++;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        bad = 0;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.repository.AiToolsRepo;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typo-tolerant lookup over tool names and categories.
+ * Candidates come from a trigram inverted index, then get verified with a
+ * bounded edit distance, so a query never compares against every tool.
+ */
+@Service
+public class FuzzyToolIndex {
+
+    private static final int MAX_ALLOWED_DISTANCE = 3;
+
+    private final AiToolsRepo aiToolsRepo;
+
+    // trigram -> ids of tools whose name or category contains it
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public FuzzyToolIndex(AiToolsRepo aiToolsRepo) {
+        this.aiToolsRepo = aiToolsRepo;
+    }
+
+    private record Entry(String name, String category, double rating) {
+    }
+
+    public record Match(Long toolId, int distance, double rating) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        postings.clear();
+        entries.clear();
+        for (AiTools tool : aiToolsRepo.findAll()) {
+            index(tool);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onToolChanged(AiToolChangedEvent event) {
+        remove(event.toolId());
+        if (event.type() != AiToolChangedEvent.ChangeType.DELETED) {
+            aiToolsRepo.findById(event.toolId()).ifPresent(this::index);
+        }
+    }
+
+    public synchronized void index(AiTools tool) {
+        remove(tool.getId());
+        Entry entry = new Entry(normalize(tool.getName()), normalize(tool.getCategory()), tool.getRating());
+        entries.put(tool.getId(), entry);
+        for (String gram : trigrams(entry.name())) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(tool.getId());
+        }
+        for (String gram : trigrams(entry.category())) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(tool.getId());
+        }
+    }
+
+    public synchronized void remove(Long toolId) {
+        Entry entry = entries.remove(toolId);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : trigrams(entry.name())) {
+            removePosting(gram, toolId);
+        }
+        for (String gram : trigrams(entry.category())) {
+            removePosting(gram, toolId);
+        }
+    }
+
+    private void removePosting(String gram, Long toolId) {
+        Set<Long> ids = postings.get(gram);
+        if (ids != null) {
+            ids.remove(toolId);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Find tools whose name or category is within maxDistance edits of the query,
+     * ordered by distance and then by rating (highest first).
+     */
+    public List<Match> search(String query, Integer maxDistance, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+        int k = maxDistance != null
+                ? Math.max(0, Math.min(maxDistance, MAX_ALLOWED_DISTANCE))
+                : (q.length() <= 4 ? 1 : 2);
+
+        // q-gram lemma: a substitution, insertion or deletion destroys at most 3 of the query's
+        // padded trigrams, and an adjacent transposition (one OSA edit) up to 4
+        Set<String> queryGrams = trigrams(q);
+        int minShared = Math.max(1, queryGrams.size() - 4 * k);
+
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                for (Long id : ids) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<Long, Integer> candidate : shared.entrySet()) {
+            if (candidate.getValue() < minShared) {
+                continue;
+            }
+            Entry entry = entries.get(candidate.getKey());
+            if (entry == null) {
+                continue;
+            }
+            int distance = Math.min(
+                    boundedDistance(q, entry.name(), k),
+                    boundedDistance(q, entry.category(), k));
+            if (distance <= k) {
+                matches.add(new Match(candidate.getKey(), distance, entry.rating()));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::distance)
+                .thenComparing(Comparator.comparingDouble(Match::rating).reversed()));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String value) {
+        if (value.isEmpty()) {
+            return Set.of();
+        }
+        String padded = "  " + value + "  ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal string alignment distance (adjacent transpositions count as one edit),
+     * abandoned as soon as it cannot end up within max. Returns max + 1 in that case.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] prevPrev = new int[b.length() + 1];
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1
+                        && a.charAt(i - 1) == b.charAt(j - 2)
+                        && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, prevPrev[j - 2] + 1);
+                }
+                curr[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = prevPrev;
+            prevPrev = prev;
+            prev = curr;
+            curr = recycled;
+        }
+        return Math.min(prev[b.length()], max + 1);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -19,12 +20,19 @@ public class JWTService {
 
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 24;
 
+    private final TokenDenylist tokenDenylist;
+
+    public JWTService(TokenDenylist tokenDenylist) {
+        this.tokenDenylist = tokenDenylist;
+    }
+
     private Key getSigningKey() {
         return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
     }
 
     public String generateToken(UserDetails userDetails) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
@@ -41,7 +49,7 @@ public class JWTService {
         return resolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
+    public Claims extractAllClaims(String token) {
         return Jwts.parser()
                 .setSigningKey(getSigningKey())
                 .build()
@@ -57,4 +65,30 @@ public class JWTService {
         String username = extractUsername(token);
         return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
     }
+
+    // Same check on claims the caller has already parsed, so the token is not parsed again
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject()) && claims.getExpiration().after(new Date());
+    }
+
+    // In-memory check, no database access; tokens issued before jti existed are only checked by subject
+    public boolean isRevoked(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        return tokenDenylist.isRevoked(claims.getId(), claims.getSubject(), issuedAt == null ? 0L : issuedAt.getTime());
+    }
+
+    public void revokeToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (claims.getId() != null) {
+            tokenDenylist.revokeId(claims.getId(), claims.getExpiration().getTime());
+        } else {
+            // legacy token without jti: the only handle on it is its subject
+            tokenDenylist.revokeSubject(claims.getSubject(), EXPIRATION_TIME);
+        }
+    }
+
+    // Every token issued so far to this username, e.g. after the admin is deleted or renamed
+    public void revokeAllTokensFor(String username) {
+        tokenDenylist.revokeSubject(username, EXPIRATION_TIME);
+    }
 }
@@ -0,0 +1,209 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.ReviewChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes review moderation events (submitted, approved, rejected, deleted) to connected
+ * admins over server-sent events, so admin UIs can stop polling /api/reviews/pending.
+ *
+ * Each client has a bounded queue drained on a separate thread, so a slow consumer never
+ * blocks the write path. When a client's queue overflows, its backlog is coalesced into
+ * a single "resync" event that tells it to refetch the pending list. Recent events are
+ * kept in a ring so a reconnecting client can resume from its Last-Event-ID.
+ * Event ids are "<boot epoch>:<sequence>", so an id from before a restart is recognised
+ * and answered with a resync instead of being compared against the new sequence.
+ */
+@Service
+public class ModerationEventStream {
+
+    public record ModerationEvent(long id, String type, Long reviewId, Long aiToolId, String status) {
+    }
+
+    private final int clientBufferSize;
+    private final int replaySize;
+    private final long emitterTimeoutMillis;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ArrayDeque<ModerationEvent> replay = new ArrayDeque<>();
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ModerationEventStream(@Value("${aitools.moderation.events.client-buffer:256}") int clientBufferSize,
+                                 @Value("${aitools.moderation.events.replay-size:1000}") int replaySize,
+                                 @Value("${aitools.moderation.events.timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.clientBufferSize = clientBufferSize;
+        this.replaySize = replaySize;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    private final class Client {
+
+        final SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        final BlockingQueue<ModerationEvent> queue = new ArrayBlockingQueue<>(clientBufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean needsResync;
+
+        void enqueue(ModerationEvent event) {
+            if (!queue.offer(event)) {
+                // slow consumer: drop the backlog and ask it to refetch instead
+                queue.clear();
+                needsResync = true;
+            }
+            scheduleDrain();
+        }
+
+        void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    if (needsResync) {
+                        needsResync = false;
+                        emitter.send(SseEmitter.event().name("resync").id(eventId(sequence.get())).data("{}"));
+                    }
+                    ModerationEvent event = queue.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    emitter.send(SseEmitter.event().name(event.type()).id(eventId(event.id())).data(event));
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty() || needsResync) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            clients.remove(this);
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Registers a new admin connection. With a lastEventId, missed events still in the
+     * replay ring are sent first. If they have already been evicted, the client gets a resync.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Client client = new Client();
+        client.emitter.onCompletion(() -> clients.remove(client));
+        client.emitter.onTimeout(client::close);
+        client.emitter.onError(e -> clients.remove(client));
+
+        synchronized (replay) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long lastSeen = parseId(lastEventId);
+                long oldest = replay.isEmpty() ? sequence.get() + 1 : replay.peekFirst().id();
+                // unknown or older epoch, ahead of this process, or already evicted from the ring
+                if (lastSeen < 0 || lastSeen > sequence.get() || lastSeen < oldest - 1) {
+                    client.needsResync = true;
+                } else {
+                    for (ModerationEvent event : replay) {
+                        if (event.id() > lastSeen) {
+                            client.enqueue(event);
+                        }
+                    }
+                }
+            }
+            clients.add(client);
+        }
+        client.scheduleDrain();
+        return client.emitter;
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        String type;
+        if (event.previousStatus() == null) {
+            type = "review-submitted";
+        } else if (event.newStatus() == null) {
+            type = "review-deleted";
+        } else if (event.isApproved()) {
+            type = "review-approved";
+        } else {
+            type = "review-rejected";
+        }
+        String status = event.newStatus() == null ? null : event.newStatus().toString();
+
+        List<Client> targets;
+        ModerationEvent moderationEvent;
+        synchronized (replay) {
+            moderationEvent = new ModerationEvent(sequence.incrementAndGet(), type,
+                    event.reviewId(), event.aiToolId(), status);
+            replay.addLast(moderationEvent);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            targets = new ArrayList<>(clients);
+        }
+        for (Client client : targets) {
+            client.enqueue(moderationEvent);
+        }
+    }
+
+    // Comment-only heartbeat so dead connections are noticed and proxies keep the stream open
+    @Scheduled(fixedDelayString = "${aitools.moderation.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (Client client : clients) {
+            senders.execute(() -> {
+                try {
+                    client.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    client.close();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        clients.forEach(Client::close);
+        senders.shutdown();
+    }
+
+    private String eventId(long sequenceNumber) {
+        return epoch + ":" + sequenceNumber;
+    }
+
+    // Sequence number of an id issued by this process, -1 for anything else
+    private long parseId(String id) {
+        String prefix = epoch + ":";
+        String trimmed = id.trim();
+        if (!trimmed.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(trimmed.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
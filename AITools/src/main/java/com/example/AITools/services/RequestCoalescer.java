@@ -0,0 +1,136 @@
+package com.example.AITools.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loads: while a load for a key is in flight, identical concurrent calls wait
+ * for its result instead of starting their own. Followers wait at most the configured timeout
+ * and then load for themselves, so one stuck query cannot stall every caller behind it.
+ * Callers must not hold a transaction while they wait, or each waiter pins a pooled connection.
+ * Loads that already run on another thread use join instead: callers get the in-flight future
+ * and apply their own wait limit.
+ */
+@Service
+public class RequestCoalescer {
+
+    private final long timeoutMs;
+    private final Map<String, Flight<?, ?>> flights = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(@Value("${aitools.coalescing.timeout-ms:2000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Flight<K, V> flight(String name) {
+        return (Flight<K, V>) flights.computeIfAbsent(name, n -> new Flight<>(timeoutMs));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        flights.forEach((name, flight) -> stats.put(name, flight.stats()));
+        return stats;
+    }
+
+    public static final class Flight<K, V> {
+
+        private final long timeoutMs;
+        private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder collapsed = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Flight(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public V load(K key, Supplier<V> loader) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+            if (leader == null) {
+                return lead(key, mine, loader);
+            }
+
+            collapsed.increment();
+            try {
+                return leader.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                timeouts.increment();
+                loads.increment();
+                return loader.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new RuntimeException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for an in-flight load", e);
+            }
+        }
+
+        /**
+         * Future of the load in flight for the key, or of a new one started by starter.
+         * The key is released when the load completes, so later calls start a fresh load.
+         */
+        public CompletableFuture<V> join(K key, Supplier<CompletableFuture<V>> starter) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+            if (leader != null) {
+                collapsed.increment();
+                return leader;
+            }
+            loads.increment();
+            CompletableFuture<V> started;
+            try {
+                started = starter.get();
+            } catch (RuntimeException | Error e) {
+                inFlight.remove(key, mine);
+                mine.completeExceptionally(e);
+                throw e;
+            }
+            started.whenComplete((value, error) -> {
+                inFlight.remove(key, mine);
+                if (error != null) {
+                    mine.completeExceptionally(error);
+                } else {
+                    mine.complete(value);
+                }
+            });
+            return mine;
+        }
+
+        private V lead(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+            loads.increment();
+            try {
+                V value = loader.get();
+                mine.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        Map<String, Object> stats() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("loads", loads.sum());
+            stats.put("collapsed", collapsed.sum());
+            stats.put("timeouts", timeouts.sum());
+            stats.put("inFlight", inFlight.size());
+            return stats;
+        }
+    }
+}
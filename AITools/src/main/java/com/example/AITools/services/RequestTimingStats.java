@@ -0,0 +1,86 @@
+package com.example.AITools.services;
+
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-wide histograms of request phase durations (auth, db, serialization, total).
+ * Buckets are powers of two in microseconds, so recording is a couple of atomic
+ * increments and percentiles are reported as bucket upper bounds.
+ */
+@Service
+public class RequestTimingStats {
+
+    private static final int BUCKETS = 40;
+
+    private final Histogram auth = new Histogram();
+    private final Histogram db = new Histogram();
+    private final Histogram serialization = new Histogram();
+    private final Histogram total = new Histogram();
+
+    public void record(long authNanos, long dbNanos, long serializationNanos, long totalNanos) {
+        auth.record(authNanos);
+        db.record(dbNanos);
+        serialization.record(serializationNanos);
+        total.record(totalNanos);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> phases = new LinkedHashMap<>();
+        phases.put("auth", auth.summary());
+        phases.put("db", db.summary());
+        phases.put("serialization", serialization.summary());
+        phases.put("total", total.summary());
+        return phases;
+    }
+
+    private static final class Histogram {
+
+        // bucket i holds durations below 2^i microseconds
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLongArray sums = new AtomicLongArray(2); // [count, total micros]
+
+        void record(long nanos) {
+            long micros = Math.max(0, nanos / 1000);
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+            counts.incrementAndGet(bucket);
+            sums.incrementAndGet(0);
+            sums.addAndGet(1, micros);
+        }
+
+        Map<String, Object> summary() {
+            long[] snapshot = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = counts.get(i);
+                count += snapshot[i];
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("meanMs", count == 0 ? 0.0 : sums.get(1) / (double) sums.get(0) / 1000.0);
+            summary.put("p50Ms", percentile(snapshot, count, 0.50));
+            summary.put("p90Ms", percentile(snapshot, count, 0.90));
+            summary.put("p99Ms", percentile(snapshot, count, 0.99));
+            summary.put("p999Ms", percentile(snapshot, count, 0.999));
+            return summary;
+        }
+
+        private static double percentile(long[] snapshot, long count, double quantile) {
+            if (count == 0) {
+                return 0.0;
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return (1L << i) / 1000.0;
+                }
+            }
+            return (1L << (BUCKETS - 1)) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.filter.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already-serialized (and already-gzipped) bodies for hot public GETs, keyed by endpoint
+ * and parameters. Hits skip both Jackson and compression and copy the bytes straight to
+ * the servlet output stream. Entries are invalidated by the tool and review change events
+ * published from the AiToolsService and ReveiwsService write paths.
+ * Bodies are JSON only. Controllers map CBOR and Smile to a separate produces= handler,
+ * and both representations send Vary: Accept so shared caches keep them apart.
+ */
+@Service
+public class ResponseBytesCache {
+
+    public static final String ALL_TOOLS = "tools:all";
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final JsonMapper jsonMapper;
+    private final Map<String, CachedResponse> entries;
+    // Bumped on every invalidation so a load that raced with a write is not stored. Striped by
+    // key hash so the counters stay bounded; a collision only skips storing one load.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ResponseBytesCache(JsonMapper jsonMapper,
+                              @Value("${aitools.response-cache.max-entries:2000}") int maxEntries) {
+        this.jsonMapper = jsonMapper;
+        // LRU, so requests for arbitrary tool ids cannot grow the heap without bound
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private record CachedResponse(byte[] json, byte[] gzip, String etag) {
+    }
+
+    public static String approvedReviewsKey(Long aiToolId) {
+        return "reviews:aitool:" + aiToolId;
+    }
+
+    public void write(String key, Supplier<?> loader, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CachedResponse cached = entries.get(key);
+        if (cached != null) {
+            RequestTimings.current().markSerializationStart();
+        } else {
+            long generation = generations.get(stripe(key));
+            Object body = loader.get();
+            RequestTimings.current().markSerializationStart();
+            cached = serialize(body);
+            long staleSeconds = StaleWhileRevalidateCache.staleSeconds(request);
+            if (staleSeconds >= 0) {
+                // a fallback value is served once, with staleness headers, and never stored
+                StaleResponseHeaders.apply(response, staleSeconds);
+            } else if (generations.get(stripe(key)) == generation) {
+                entries.put(key, cached);
+            }
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        if (cached.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = cached.json();
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public void invalidate(String key) {
+        generations.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onToolChanged(AiToolChangedEvent event) {
+        invalidate(ALL_TOOLS);
+        // review DTOs embed the tool name
+        invalidate(approvedReviewsKey(event.toolId()));
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.wasApproved() || event.isApproved()) {
+            invalidate(approvedReviewsKey(event.aiToolId()));
+        }
+    }
+
+    private static int stripe(String key) {
+        return key.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private CachedResponse serialize(Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(json.length) + "\"";
+        return new CachedResponse(json, compressed.toByteArray(), etag);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.AiToolsRepo;
+import com.example.AITools.repository.ReveiwsRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class ReveiwsService {
+
+    private final ReveiwsRepo reveiwsRepo;
+    private final AiToolsRepo aiToolsRepo;
+    private final ReviewDuplicateScreener duplicateScreener;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration leaseDuration;
+    private final int maxClaimSize;
+    private final int maxBatchIds;
+    private final StaleWhileRevalidateCache staleCache;
+
+    public ReveiwsService(ReveiwsRepo reveiwsRepo,
+                          AiToolsRepo aiToolsRepo,
+                          ReviewDuplicateScreener duplicateScreener,
+                          ApplicationEventPublisher eventPublisher,
+                          StaleWhileRevalidateCache staleCache,
+                          @Value("${aitools.moderation.lease-seconds:300}") long leaseSeconds,
+                          @Value("${aitools.moderation.max-claim-size:50}") int maxClaimSize,
+                          @Value("${aitools.batch.max-ids:100}") int maxBatchIds) {
+        this.reveiwsRepo = reveiwsRepo;
+        this.aiToolsRepo = aiToolsRepo;
+        this.duplicateScreener = duplicateScreener;
+        this.eventPublisher = eventPublisher;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.maxClaimSize = maxClaimSize;
+        this.maxBatchIds = maxBatchIds;
+        this.staleCache = staleCache;
+    }
+
+    private void publishChange(Reveiws review, Reveiws.ReviewStatus previousStatus, Reveiws.ReviewStatus newStatus) {
+        eventPublisher.publishEvent(new ReviewChangedEvent(
+                review.getId(),
+                review.getAiTool().getId(),
+                review.getUsername(),
+                review.getRating(),
+                previousStatus,
+                newStatus,
+                review.getApprovedAt()));
+    }
+
+    @Transactional
+    public Reveiws submitReview(Long aiToolId, String content, Double rating, String username) {
+        AiTools aiTool = aiToolsRepo.findById(aiToolId)
+                .orElseThrow(() -> new RuntimeException("AI Tool not found with id: " + aiToolId));
+
+        Reveiws review = new Reveiws();
+        review.setContent(content);
+        review.setRating(rating);
+        review.setUsername(username);
+        review.setAiTool(aiTool);
+
+        // Near-duplicates of an earlier review on this tool or by this user never reach the pending queue;
+        // reviews too short to screen always do
+        boolean duplicate = duplicateScreener.findDuplicate(aiToolId, username, content).isPresent();
+        review.setStatus(duplicate ? Reveiws.ReviewStatus.REJECTED : Reveiws.ReviewStatus.PENDING);
+
+        Reveiws savedReview = reveiwsRepo.save(review);
+        if (!duplicate) {
+            duplicateScreener.addAfterCommit(savedReview.getId(), aiToolId, username, content);
+        }
+        publishChange(savedReview, null, savedReview.getStatus());
+        return savedReview;
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<Reveiws> getAllPendingReviews() {
+        return reveiwsRepo.findAllPending();
+    }
+
+    /**
+     * Lease the oldest claimable pending reviews to an admin. Rows locked by a concurrent
+     * claim are skipped rather than waited on, so two admins never get the same review.
+     * A lease that runs out makes the review claimable again.
+     */
+    @Transactional
+    public List<Reveiws> claimPendingReviews(String adminName, int limit) {
+        Instant now = Instant.now();
+        List<Long> ids = reveiwsRepo.lockClaimablePendingIds(now, Math.max(1, Math.min(limit, maxClaimSize)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        reveiwsRepo.leaseReviews(ids, adminName, now.plus(leaseDuration));
+        return reveiwsRepo.findByIdsWithAiTool(ids);
+    }
+
+    // Public read: falls back to the last good list during database incidents
+    public List<Reveiws> getAllApprovedReviews() {
+        return staleCache.read("reviews:approved", reveiwsRepo::findAllApproved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Reveiws> getReviewsByAiToolId(Long aiToolId) {
+        return reveiwsRepo.findByAiToolIdWithFetch(aiToolId);
+    }
+
+    // Not @Transactional: waiters must not hold a connection while the shared load runs.
+    // The repository query runs in its own read-only transaction and fetches the tool eagerly.
+    public List<Reveiws> getApprovedReviewsByAiToolId(Long aiToolId) {
+        return staleCache.read("reviews:aitool:" + aiToolId,
+                () -> reveiwsRepo.findByAiToolIdAndStatusWithFetch(aiToolId, Reveiws.ReviewStatus.APPROVED));
+    }
+
+    /**
+     * Top approved reviews for several tools at once: one windowed query picks the ids,
+     * one IN query loads them with their tools. Ids are deduplicated and capped; every
+     * requested tool gets an entry, empty if it has no approved reviews.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<Reveiws>> getTopApprovedReviewsByAiToolIds(List<Long> aiToolIds, int limit) {
+        List<Long> toolIds = aiToolIds.stream().filter(Objects::nonNull).distinct().limit(maxBatchIds).toList();
+        Map<Long, List<Reveiws>> result = new LinkedHashMap<>();
+        toolIds.forEach(id -> result.put(id, new ArrayList<>()));
+        if (toolIds.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        List<Long> rankedIds = reveiwsRepo.findTopApprovedIdsPerAiTool(toolIds, limit);
+        if (rankedIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, Reveiws> reviewsById = new HashMap<>();
+        reveiwsRepo.findByIdsWithAiTool(rankedIds).forEach(review -> reviewsById.put(review.getId(), review));
+        for (Long id : rankedIds) {
+            Reveiws review = reviewsById.get(id);
+            if (review != null) {
+                result.get(review.getAiTool().getId()).add(review);
+            }
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Reveiws getReviewById(Long reviewId) {
+        return reveiwsRepo.findByIdWithAiTool(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
+    }
+
+    @Transactional
+    public Reveiws approveReview(Long reviewId, String adminName) {
+        Reveiws review = lockForDecision(reviewId, adminName);
+        Reveiws.ReviewStatus previousStatus = review.getStatus();
+        review.setStatus(Reveiws.ReviewStatus.APPROVED);
+        if (previousStatus != Reveiws.ReviewStatus.APPROVED) {
+            review.setApprovedAt(Instant.now());
+        }
+        review.setLeasedBy(null);
+        review.setLeaseExpiresAt(null);
+        Reveiws savedReview = reveiwsRepo.save(review);
+        publishChange(savedReview, previousStatus, savedReview.getStatus());
+        return savedReview;
+    }
+
+    @Transactional
+    public Reveiws rejectReview(Long reviewId, String adminName) {
+        Reveiws review = lockForDecision(reviewId, adminName);
+        Reveiws.ReviewStatus previousStatus = review.getStatus();
+        review.setStatus(Reveiws.ReviewStatus.REJECTED);
+        review.setLeasedBy(null);
+        review.setLeaseExpiresAt(null);
+        Reveiws savedReview = reveiwsRepo.save(review);
+        publishChange(savedReview, previousStatus, savedReview.getStatus());
+        return savedReview;
+    }
+
+    /**
+     * Locks the review and refuses the decision while another admin holds an unexpired
+     * lease on it. An expired lease, or a review nobody claimed, can be decided by anyone.
+     */
+    private Reveiws lockForDecision(Long reviewId, String adminName) {
+        Reveiws review = reveiwsRepo.findWithLockById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
+        if (review.getLeasedBy() != null && !review.getLeasedBy().equals(adminName)
+                && review.getLeaseExpiresAt() != null && review.getLeaseExpiresAt().isAfter(Instant.now())) {
+            throw new IllegalStateException("Review " + reviewId + " is claimed by another admin until "
+                    + review.getLeaseExpiresAt());
+        }
+        return review;
+    }
+
+    @Transactional
+    public void deleteReview(Long reviewId) {
+        Reveiws review = getReviewById(reviewId);
+        reveiwsRepo.delete(review);
+        publishChange(review, review.getStatus(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Reveiws> getReviewsByStatus(Reveiws.ReviewStatus status) {
+        return reveiwsRepo.findByStatusWithAiTool(status);
+    }
+}
+
@@ -0,0 +1,159 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.model.ArchivedReview;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.ArchivedReviewRepo;
+import com.example.AITools.repository.ReveiwsRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Moves reviews out of the hot reviews table into reviews_archive:
+ *  - REJECTED reviews once they are older than aitools.archive.rejected-min-age-hours
+ *  - APPROVED reviews approved more than aitools.archive.approved-retention-days ago (0 = never)
+ * Each batch is an INSERT ... SELECT plus a DELETE in its own short transaction, with a
+ * pause between batches and a cap per run, so archival never holds long locks or
+ * saturates the database. Archived approved reviews stop counting towards ratings, so
+ * they are announced like deletes to keep the in-memory read models in step.
+ * Archived rejected reviews are not announced: rejected reviews are never added to the
+ * in-memory read models (the duplicate screener drops them when they are rejected).
+ */
+@Service
+public class ReviewArchiveService {
+
+    private final ReveiwsRepo reveiwsRepo;
+    private final ArchivedReviewRepo archivedReviewRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int maxBatchesPerRun;
+    private final Duration rejectedMinAge;
+    private final Duration approvedRetention;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReviewArchiveService(ReveiwsRepo reveiwsRepo,
+                                ArchivedReviewRepo archivedReviewRepo,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${aitools.archive.batch-size:500}") int batchSize,
+                                @Value("${aitools.archive.pause-ms:200}") long pauseMs,
+                                @Value("${aitools.archive.max-batches-per-run:1000}") int maxBatchesPerRun,
+                                @Value("${aitools.archive.rejected-min-age-hours:24}") long rejectedMinAgeHours,
+                                @Value("${aitools.archive.approved-retention-days:0}") long approvedRetentionDays) {
+        this.reveiwsRepo = reveiwsRepo;
+        this.archivedReviewRepo = archivedReviewRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.rejectedMinAge = Duration.ofHours(rejectedMinAgeHours);
+        this.approvedRetention = Duration.ofDays(approvedRetentionDays);
+    }
+
+    @Scheduled(cron = "${aitools.archive.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        runArchival();
+    }
+
+    /**
+     * One archival pass. Returns counts, or {"skipped": true} if a pass is already running.
+     */
+    public Map<String, Object> runArchival() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (!running.compareAndSet(false, true)) {
+            result.put("skipped", true);
+            return result;
+        }
+        long start = System.nanoTime();
+        try {
+            Instant now = Instant.now();
+            int[] batches = {0};
+            int rejected = drain(batches, () -> reveiwsRepo.findIdsSubmittedBefore(
+                    Reveiws.ReviewStatus.REJECTED, now.minus(rejectedMinAge), PageRequest.of(0, batchSize)), false);
+            int approved = approvedRetention.isZero() ? 0 : drain(batches, () -> reveiwsRepo.findIdsApprovedBefore(
+                    Reveiws.ReviewStatus.APPROVED, now.minus(approvedRetention), PageRequest.of(0, batchSize)), true);
+
+            result.put("rejectedArchived", rejected);
+            result.put("approvedArchived", approved);
+            result.put("batches", batches[0]);
+            result.put("durationMs", (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public List<ArchivedReview> getArchivedReviews(Long aiToolId, Reveiws.ReviewStatus status, Long beforeId, int limit) {
+        return archivedReviewRepo.findPage(aiToolId, status, beforeId != null ? beforeId : Long.MAX_VALUE,
+                PageRequest.of(0, limit));
+    }
+
+    private int drain(int[] batches, Supplier<List<Long>> nextIds, boolean announce) {
+        int moved = 0;
+        while (batches[0] < maxBatchesPerRun) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = nextIds.get();
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                if (announce) {
+                    publishRemovals(ids);
+                }
+                archivedReviewRepo.copyFromReviews(ids, Instant.now());
+                reveiwsRepo.deleteByIds(ids);
+                return ids.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            batches[0]++;
+            moved += count;
+            if (count < batchSize) {
+                break;
+            }
+            pause();
+        }
+        return moved;
+    }
+
+    // Delivered after the batch commits, like any other review delete
+    private void publishRemovals(List<Long> ids) {
+        for (Object[] row : reveiwsRepo.findEventRowsByIds(ids)) {
+            eventPublisher.publishEvent(new ReviewChangedEvent(
+                    (Long) row[0],
+                    (Long) row[1],
+                    (String) row[2],
+                    (Double) row[3],
+                    Reveiws.ReviewStatus.APPROVED,
+                    null,
+                    (Instant) row[4]));
+        }
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Review archival interrupted", e);
+        }
+    }
+}
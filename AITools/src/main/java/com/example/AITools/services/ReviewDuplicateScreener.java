@@ -0,0 +1,296 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.ReveiwsRepo;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * Near-duplicate pre-screening for submitted reviews.
+ * Each review content gets a MinHash signature over character shingles. Signatures
+ * are banded into an LSH index scoped per tool and per username, so a submission is
+ * only compared with the few earlier reviews that share a band bucket with it.
+ * The index keeps the most recent maxEntries reviews and can be rebuilt from the table.
+ * Rejected reviews are never indexed, so spam that was already turned away cannot
+ * auto-reject a later legitimate review. Content shorter than min-shingles shingles is
+ * neither screened nor indexed: short generic reviews ("Great tool") from different users
+ * are expected to look alike.
+ * Bucket keys are 64-bit hashes of (scope, band, band rows), so an entry costs 32 primitive
+ * keys rather than 32 strings and lists. A key collision across scopes is caught by
+ * checking the candidate's own scope before comparing signatures.
+ */
+@Service
+public class ReviewDuplicateScreener {
+
+    private static final int SHINGLE_SIZE = 5;
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+    private static final long TOOL_SCOPE_SEED = 0x7A3C_0000_0000_0001L;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_CAFEL);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            SEEDS[i] = random.nextLong();
+        }
+    }
+
+    private final ReveiwsRepo reveiwsRepo;
+    private final double threshold;
+    private final int maxEntries;
+    private final int chunkSize;
+    private final int minShingles;
+
+    // scopes: hashed tool id, hashed normalized username
+    private record Entry(long reviewId, long aiToolId, long[] scopes, int[] signature) {
+    }
+
+    // insertion ordered, so the eldest entry is evicted first once the index is full
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+    private final Long2ObjectOpenHashMap<LongArrayList> buckets = new Long2ObjectOpenHashMap<>();
+
+    public ReviewDuplicateScreener(ReveiwsRepo reveiwsRepo,
+                                   @Value("${aitools.review-screening.threshold:0.8}") double threshold,
+                                   @Value("${aitools.review-screening.max-entries:200000}") int maxEntries,
+                                   @Value("${aitools.review-screening.rebuild-chunk-size:5000}") int chunkSize,
+                                   @Value("${aitools.review-screening.min-shingles:20}") int minShingles) {
+        this.reveiwsRepo = reveiwsRepo;
+        this.threshold = threshold;
+        this.maxEntries = maxEntries;
+        this.chunkSize = chunkSize;
+        this.minShingles = minShingles;
+    }
+
+    /**
+     * Returns the id of an indexed review that this content nearly duplicates for the
+     * same tool or the same username, if there is one.
+     */
+    public synchronized Optional<Long> findDuplicate(Long aiToolId, String username, String content) {
+        if (!screenable(content)) {
+            return Optional.empty();
+        }
+        int[] signature = signature(content);
+        long[] scopes = scopes(aiToolId, username);
+        for (int scope = 0; scope < scopes.length; scope++) {
+            for (int band = 0; band < BANDS; band++) {
+                LongArrayList candidates = buckets.get(bucketKey(scopes[scope], band, signature));
+                if (candidates == null) {
+                    continue;
+                }
+                for (int i = 0; i < candidates.size(); i++) {
+                    Entry candidate = entries.get(candidates.getLong(i));
+                    if (candidate != null
+                            && candidate.scopes()[scope] == scopes[scope]
+                            && similarity(signature, candidate.signature()) >= threshold) {
+                        return Optional.of(candidate.reviewId());
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Index a newly submitted review once its transaction commits, so a rolled-back
+     * submission never leaves an entry behind. Adds immediately outside a transaction.
+     */
+    public void addAfterCommit(Long reviewId, Long aiToolId, String username, String content) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(reviewId, aiToolId, username, content);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(reviewId, aiToolId, username, content);
+            }
+        });
+    }
+
+    public synchronized void add(Long reviewId, Long aiToolId, String username, String content) {
+        if (screenable(content)) {
+            insert(new Entry(reviewId, aiToolId, scopes(aiToolId, username), signature(content)));
+        }
+    }
+
+    private void insert(Entry entry) {
+        long reviewId = entry.reviewId();
+        remove(reviewId);
+        entries.put(reviewId, entry);
+        for (long scope : entry.scopes()) {
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bucketKey(scope, band, entry.signature()), k -> new LongArrayList(1))
+                        .add(reviewId);
+            }
+        }
+        if (entries.size() > maxEntries) {
+            remove(entries.keySet().iterator().next());
+        }
+    }
+
+    public synchronized void remove(Long reviewId) {
+        Entry entry = entries.remove(reviewId);
+        if (entry == null) {
+            return;
+        }
+        for (long scope : entry.scopes()) {
+            for (int band = 0; band < BANDS; band++) {
+                long key = bucketKey(scope, band, entry.signature());
+                LongArrayList ids = buckets.get(key);
+                if (ids != null) {
+                    ids.rem(reviewId);
+                    if (ids.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    // A review rejected after submission leaves the index; one restored from REJECTED is only
+    // picked up again by the next rebuild, as the event does not carry its content
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.newStatus() == null || event.newStatus() == Reveiws.ReviewStatus.REJECTED) {
+            remove(event.reviewId());
+        }
+    }
+
+    // Reviews of a deleted tool are removed in bulk, without per-review events
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onToolChanged(AiToolChangedEvent event) {
+        if (event.type() != AiToolChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        List<Long> reviewIds = entries.values().stream()
+                .filter(entry -> entry.aiToolId() == event.toolId())
+                .map(Entry::reviewId)
+                .toList();
+        reviewIds.forEach(this::remove);
+    }
+
+    /**
+     * Rebuild the index from the non-rejected reviews, reading newest-first and stopping
+     * once maxEntries are collected, so only the rows the index will keep are ever read.
+     * Entries are inserted oldest-first to keep the eviction order.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized int rebuild() {
+        entries.clear();
+        buckets.clear();
+
+        List<Entry> newestFirst = new ArrayList<>();
+        long beforeId = Long.MAX_VALUE;
+        while (newestFirst.size() < maxEntries) {
+            int pageSize = Math.min(chunkSize, maxEntries - newestFirst.size());
+            List<Object[]> chunk = reveiwsRepo.findContentChunkBefore(
+                    beforeId, Reveiws.ReviewStatus.REJECTED, PageRequest.of(0, pageSize));
+            for (Object[] row : chunk) {
+                beforeId = (Long) row[0];
+                Long aiToolId = (Long) row[1];
+                String content = (String) row[3];
+                if (screenable(content)) {
+                    newestFirst.add(new Entry(beforeId, aiToolId, scopes(aiToolId, (String) row[2]), signature(content)));
+                }
+            }
+            if (chunk.size() < pageSize) {
+                break;
+            }
+        }
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            insert(newestFirst.get(i));
+        }
+        return newestFirst.size();
+    }
+
+    private boolean screenable(String content) {
+        return normalize(content).length() - SHINGLE_SIZE + 1 >= minShingles;
+    }
+
+    private static long[] scopes(Long aiToolId, String username) {
+        return new long[]{mix64(TOOL_SCOPE_SEED ^ aiToolId), hash64(normalize(username))};
+    }
+
+    private static long bucketKey(long scope, int band, int[] signature) {
+        long hash = mix64(scope + band);
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            hash = mix64(hash ^ (signature[row] & 0xFFFF_FFFFL));
+        }
+        return hash;
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    static int[] signature(String content) {
+        String text = normalize(content);
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        if (text.length() < SHINGLE_SIZE) {
+            applyShingle(signature, text.hashCode());
+            return signature;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= text.length(); i++) {
+            applyShingle(signature, text.substring(i, i + SHINGLE_SIZE).hashCode());
+        }
+        return signature;
+    }
+
+    private static void applyShingle(int[] signature, int shingleHash) {
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            int hash = mix(shingleHash ^ SEEDS[i]);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+
+    private static int mix(long value) {
+        return (int) mix64(value);
+    }
+
+    private static long mix64(long value) {
+        // splitmix64 finaliser
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    // FNV-1a over the chars, finalised
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix64(hash);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.repository.AiToolsRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Precomputed "similar tools" for the detail page.
+ * Every tool gets a hashed TF-IDF vector built from its description, use cases and category.
+ * A background job then stores the top-k cosine neighbours of each tool in a compact table
+ * (parallel arrays of ids and scores), so reads never compute similarity.
+ */
+@Service
+public class SimilarToolsService {
+
+    private static final int DIMENSIONS = 1 << 14;
+    private static final int BLOCK_SIZE = 64;
+    private static final Logger log = LoggerFactory.getLogger(SimilarToolsService.class);
+
+    private final AiToolsRepo aiToolsRepo;
+    private final int k;
+
+    private final Map<Long, SparseVector> vectors = new ConcurrentHashMap<>();
+    private final Map<Long, Neighbors> neighborTable = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyTools = ConcurrentHashMap.newKeySet();
+    private volatile float[] idf = new float[DIMENSIONS];
+
+    public SimilarToolsService(AiToolsRepo aiToolsRepo,
+                               @Value("${aitools.similar.k:5}") int k) {
+        this.aiToolsRepo = aiToolsRepo;
+        this.k = k;
+    }
+
+    record SparseVector(int[] indexes, float[] weights) {
+
+        float dot(SparseVector other) {
+            float sum = 0f;
+            int i = 0;
+            int j = 0;
+            while (i < indexes.length && j < other.indexes.length) {
+                if (indexes[i] == other.indexes[j]) {
+                    sum += weights[i++] * other.weights[j++];
+                } else if (indexes[i] < other.indexes[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return sum;
+        }
+    }
+
+    public record Neighbors(long[] toolIds, float[] scores) {
+
+        static final Neighbors EMPTY = new Neighbors(new long[0], new float[0]);
+    }
+
+    public List<Long> getSimilarToolIds(Long toolId) {
+        Neighbors neighbors = neighborTable.getOrDefault(toolId, Neighbors.EMPTY);
+        List<Long> ids = new ArrayList<>(neighbors.toolIds().length);
+        for (long id : neighbors.toolIds()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onToolChanged(AiToolChangedEvent event) {
+        dirtyTools.add(event.toolId());
+    }
+
+    /**
+     * The first build is an all-pairs pass over the catalog, so it runs off the startup thread;
+     * similar-tool lists are empty until it finishes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofPlatform().name("similar-tools-rebuild").daemon().start(() -> {
+            try {
+                rebuildAll();
+            } catch (RuntimeException e) {
+                log.warn("Initial similar-tools build failed; retrying at the next scheduled rebuild", e);
+            }
+        });
+    }
+
+    /**
+     * Full rebuild: recompute document frequencies, every vector and the whole neighbor table.
+     */
+    @Scheduled(cron = "${aitools.similar.rebuild-cron:0 0 3 * * *}")
+    public synchronized void rebuildAll() {
+        List<AiTools> tools = aiToolsRepo.findAll();
+        dirtyTools.clear();
+
+        List<int[]> termBuckets = new ArrayList<>(tools.size());
+        int[] documentFrequency = new int[DIMENSIONS];
+        for (AiTools tool : tools) {
+            int[] buckets = hashTerms(tool);
+            termBuckets.add(buckets);
+            for (int bucket : Arrays.stream(buckets).distinct().toArray()) {
+                documentFrequency[bucket]++;
+            }
+        }
+        float[] newIdf = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            newIdf[i] = (float) Math.log((1.0 + tools.size()) / (1.0 + documentFrequency[i])) + 1f;
+        }
+        idf = newIdf;
+
+        vectors.clear();
+        for (int i = 0; i < tools.size(); i++) {
+            vectors.put(tools.get(i).getId(), toVector(termBuckets.get(i)));
+        }
+
+        long[] ids = vectors.keySet().stream().mapToLong(Long::longValue).toArray();
+        SparseVector[] rows = new SparseVector[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            rows[i] = vectors.get(ids[i]);
+        }
+        Neighbors[] result = new Neighbors[ids.length];
+        ForkJoinPool.commonPool().invoke(new NeighborBlockTask(ids, rows, result, 0, ids.length));
+
+        neighborTable.clear();
+        for (int i = 0; i < ids.length; i++) {
+            neighborTable.put(ids[i], result[i]);
+        }
+    }
+
+    /**
+     * Incremental pass for tools changed since the last run. Changed rows are recomputed,
+     * and every other row only merges in (or drops) the changed tools.
+     * Document frequencies are left alone until the next full rebuild.
+     */
+    @Scheduled(fixedDelayString = "${aitools.similar.refresh-ms:60000}")
+    public synchronized void refreshChanged() {
+        if (dirtyTools.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = new HashSet<>(dirtyTools);
+        dirtyTools.removeAll(changed);
+
+        Map<Long, AiTools> stillPresent = new HashMap<>();
+        for (AiTools tool : aiToolsRepo.findAllById(changed)) {
+            stillPresent.put(tool.getId(), tool);
+        }
+        for (Long id : changed) {
+            AiTools tool = stillPresent.get(id);
+            if (tool == null) {
+                vectors.remove(id);
+                neighborTable.remove(id);
+            } else {
+                vectors.put(id, toVector(hashTerms(tool)));
+            }
+        }
+
+        long[] ids = vectors.keySet().stream().mapToLong(Long::longValue).toArray();
+        SparseVector[] rows = new SparseVector[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            rows[i] = vectors.get(ids[i]);
+        }
+
+        for (int i = 0; i < ids.length; i++) {
+            long id = ids[i];
+            Neighbors current = neighborTable.get(id);
+            if (changed.contains(id) || current == null || containsAny(current, changed)) {
+                // A neighbour changed or vanished, so its old score cannot be trusted
+                neighborTable.put(id, topK(i, ids, rows));
+            } else {
+                neighborTable.put(id, mergeChanged(current, rows[i], changed));
+            }
+        }
+    }
+
+    private Neighbors mergeChanged(Neighbors current, SparseVector row, Set<Long> changed) {
+        TopK top = new TopK(k);
+        for (int i = 0; i < current.toolIds().length; i++) {
+            top.offer(current.toolIds()[i], current.scores()[i]);
+        }
+        for (Long changedId : changed) {
+            SparseVector other = vectors.get(changedId);
+            if (other != null) {
+                top.offer(changedId, row.dot(other));
+            }
+        }
+        return top.toNeighbors();
+    }
+
+    private static boolean containsAny(Neighbors neighbors, Set<Long> ids) {
+        for (long id : neighbors.toolIds()) {
+            if (ids.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Neighbors topK(int row, long[] ids, SparseVector[] rows) {
+        TopK top = new TopK(k);
+        for (int j = 0; j < ids.length; j++) {
+            if (j != row) {
+                top.offer(ids[j], rows[row].dot(rows[j]));
+            }
+        }
+        return top.toNeighbors();
+    }
+
+    private class NeighborBlockTask extends RecursiveAction {
+
+        private final long[] ids;
+        private final SparseVector[] rows;
+        private final Neighbors[] result;
+        private final int from;
+        private final int to;
+
+        NeighborBlockTask(long[] ids, SparseVector[] rows, Neighbors[] result, int from, int to) {
+            this.ids = ids;
+            this.rows = rows;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BLOCK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    result[i] = topK(i, ids, rows);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new NeighborBlockTask(ids, rows, result, from, mid),
+                    new NeighborBlockTask(ids, rows, result, mid, to));
+        }
+    }
+
+    private static final class TopK {
+
+        private final int capacity;
+        // min-heap on score so the weakest neighbour is evicted first
+        private final PriorityQueue<Map.Entry<Long, Float>> heap =
+                new PriorityQueue<>(Map.Entry.comparingByValue());
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(long id, float score) {
+            if (score <= 0f) {
+                return;
+            }
+            if (heap.size() < capacity) {
+                heap.add(Map.entry(id, score));
+            } else if (heap.peek().getValue() < score) {
+                heap.poll();
+                heap.add(Map.entry(id, score));
+            }
+        }
+
+        Neighbors toNeighbors() {
+            List<Map.Entry<Long, Float>> sorted = new ArrayList<>(heap);
+            sorted.sort(Map.Entry.<Long, Float>comparingByValue().reversed());
+            long[] ids = new long[sorted.size()];
+            float[] scores = new float[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = sorted.get(i).getKey();
+                scores[i] = sorted.get(i).getValue();
+            }
+            return new Neighbors(ids, scores);
+        }
+    }
+
+    private static int[] hashTerms(AiTools tool) {
+        List<Integer> buckets = new ArrayList<>();
+        addTerms(buckets, tool.getDecription(), 1);
+        addTerms(buckets, tool.getUsecases(), 1);
+        // category is short but very telling, so it counts twice
+        addTerms(buckets, tool.getCategory(), 2);
+        return buckets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void addTerms(List<Integer> buckets, String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (term.length() < 2) {
+                continue;
+            }
+            int bucket = Math.floorMod(term.hashCode(), DIMENSIONS);
+            for (int i = 0; i < weight; i++) {
+                buckets.add(bucket);
+            }
+        }
+    }
+
+    private SparseVector toVector(int[] termBuckets) {
+        float[] currentIdf = idf;
+        TreeMap<Integer, Float> weights = new TreeMap<>();
+        for (int bucket : termBuckets) {
+            weights.merge(bucket, 1f, Float::sum);
+        }
+        int[] indexes = new int[weights.size()];
+        float[] values = new float[weights.size()];
+        double norm = 0;
+        int i = 0;
+        for (Map.Entry<Integer, Float> entry : weights.entrySet()) {
+            float idfWeight = currentIdf[entry.getKey()] == 0f ? 1f : currentIdf[entry.getKey()];
+            indexes[i] = entry.getKey();
+            values[i] = (float) (1 + Math.log(entry.getValue())) * idfWeight;
+            norm += values[i] * values[i];
+            i++;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int j = 0; j < values.length; j++) {
+                values[j] *= scale;
+            }
+        }
+        return new SparseVector(indexes, values);
+    }
+}
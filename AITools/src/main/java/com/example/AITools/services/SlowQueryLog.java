@@ -0,0 +1,113 @@
+package com.example.AITools.services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sink for statements measured by the JDBC proxy (config/SlowQueryJdbcProxy). Statements
+ * at or above the threshold, plus a sampled fraction of the rest, are handed to a bounded
+ * queue and logged by a single writer thread, so a burst of slow queries never blocks a
+ * request thread: when the queue is full entries are dropped and counted instead.
+ */
+@Service
+public class SlowQueryLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final boolean logBinds;
+    private final int maxValueLength;
+    private final BlockingQueue<Entry> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+
+    public SlowQueryLog(@Value("${aitools.slow-query.threshold-ms:200}") long thresholdMs,
+                        @Value("${aitools.slow-query.sample-rate:0.001}") double sampleRate,
+                        @Value("${aitools.slow-query.log-binds:false}") boolean logBinds,
+                        @Value("${aitools.slow-query.max-value-length:200}") int maxValueLength,
+                        @Value("${aitools.slow-query.buffer-size:4096}") int bufferSize) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.sampleRate = sampleRate;
+        this.logBinds = logBinds;
+        this.maxValueLength = maxValueLength;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.writer = Thread.ofPlatform().name("slow-query-writer").daemon().start(this::drain);
+    }
+
+    private record Entry(long nanos, long rows, String endpoint, String sql, String binds, boolean sampled) {
+    }
+
+    public boolean shouldRecord(long nanos) {
+        return nanos >= thresholdNanos || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    // binds are rendered here, on the calling thread, because the statement reuses its parameter slots
+    public void record(long nanos, long rows, String endpoint, String sql, Object[] binds, int bindCount) {
+        Entry entry = new Entry(nanos, rows, endpoint, sql, logBinds ? render(binds, bindCount) : "[hidden]",
+                nanos < thresholdNanos);
+        if (!queue.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        try {
+            while (true) {
+                Entry entry = queue.take();
+                String line = String.format("slow_query ms=%.3f rows=%d sampled=%s endpoint=%s sql=\"%s\" binds=%s",
+                        entry.nanos() / 1_000_000.0, entry.rows(), entry.sampled(), entry.endpoint(),
+                        oneLine(entry.sql()), entry.binds());
+                // sampled entries are below the threshold, so they are a baseline, not a warning
+                if (entry.sampled()) {
+                    log.info(line);
+                } else {
+                    log.warn(line);
+                }
+                long drops = dropped.get();
+                if (drops != reportedDrops) {
+                    log.warn("slow_query dropped_total={}", drops);
+                    reportedDrops = drops;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String render(Object[] binds, int bindCount) {
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < bindCount; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            Object value = binds[i];
+            String text = value instanceof byte[] bytes ? "<" + bytes.length + " bytes>" : String.valueOf(value);
+            out.append(text.length() > maxValueLength ? text.substring(0, maxValueLength) + "..." : text);
+        }
+        return out.append(']').toString();
+    }
+
+    private static String oneLine(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.interrupt();
+    }
+}
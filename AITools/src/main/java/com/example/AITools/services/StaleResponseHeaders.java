@@ -0,0 +1,21 @@
+package com.example.AITools.services;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Headers on a response answered from StaleWhileRevalidateCache's fallback value.
+ */
+public final class StaleResponseHeaders {
+
+    public static final String SERVED_STALE = "X-Served-Stale";
+
+    private StaleResponseHeaders() {
+    }
+
+    public static void apply(HttpServletResponse response, long staleSeconds) {
+        response.setHeader(HttpHeaders.AGE, Long.toString(staleSeconds));
+        response.setHeader(SERVED_STALE, "true");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.AITools.services;
+
+import com.example.AITools.filter.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Last good value of each public read, used when the database cannot answer in time.
+ * Every read still starts a load (coalesced per key, on a background thread) while the
+ * DbCircuitBreaker allows it. When a previous value exists, the caller waits at most
+ * load-timeout-ms for the load. If the load is slow or fails, the caller gets the old
+ * value and the load finishes in the background to refresh the entry. While the breaker
+ * is open, callers get the old value at once, or a 503 if there is none. A stale answer
+ * is flagged on the current request so the response carries Age and X-Served-Stale.
+ * The breaker's half-open trial always starts its own load rather than joining one in
+ * flight. A load still running after load-abandon-ms is recorded as a failure and
+ * detached, so a hung database call cannot hold the breaker half-open.
+ * Loads run on behalf of the request that started them: their SQL is attributed to its
+ * endpoint, and every caller that gets the loaded value adds the load's db time to its own.
+ */
+@Service
+public class StaleWhileRevalidateCache {
+
+    private static final String STALE_ATTRIBUTE = StaleWhileRevalidateCache.class.getName() + ".staleSeconds";
+
+    private final DbCircuitBreaker circuitBreaker;
+    private final long loadTimeoutMs;
+    private final long loadAbandonMs;
+    private final Map<String, Entry> entries;
+    private final RequestCoalescer.Flight<String, Loaded> loading;
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StaleWhileRevalidateCache(DbCircuitBreaker circuitBreaker,
+                                     RequestCoalescer requestCoalescer,
+                                     @Value("${aitools.swr.load-timeout-ms:500}") long loadTimeoutMs,
+                                     @Value("${aitools.swr.load-abandon-ms:10000}") long loadAbandonMs,
+                                     @Value("${aitools.swr.max-entries:10000}") int maxEntries) {
+        this.circuitBreaker = circuitBreaker;
+        // the only coalescing layer for public reads: loaders passed to read must not coalesce again
+        this.loading = requestCoalescer.flight("stale-cache-loads");
+        this.loadTimeoutMs = loadTimeoutMs;
+        this.loadAbandonMs = loadAbandonMs;
+        // LRU, so per-tool and per-filter keys cannot grow without bound
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private record Entry(Object value, Instant loadedAt) {
+    }
+
+    private record Loaded(Object value, long dbNanos) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T read(String key, Supplier<T> loader) {
+        Entry cached = entries.get(key);
+        DbCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            if (cached == null) {
+                throw unavailable();
+            }
+            return (T) stale(cached);
+        }
+
+        CompletableFuture<Loaded> load = load(key, (Supplier<Object>) loader, permit);
+        if (cached == null) {
+            try {
+                return (T) fresh(load.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    throw unavailable();
+                }
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+        try {
+            return (T) fresh(load.get(loadTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException | ExecutionException e) {
+            return (T) stale(cached);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return (T) stale(cached);
+        }
+    }
+
+    // -1 when the current request was answered from fresh data
+    public static long staleSeconds(HttpServletRequest request) {
+        Object seconds = request.getAttribute(STALE_ATTRIBUTE);
+        return seconds instanceof Long value ? value : -1;
+    }
+
+    private CompletableFuture<Loaded> load(String key, Supplier<Object> loader, DbCircuitBreaker.Permit permit) {
+        if (permit == DbCircuitBreaker.Permit.TRIAL) {
+            // the trial must measure a load of its own, not one started before the breaker opened
+            return start(key, loader, permit);
+        }
+        return loading.join(key, () -> start(key, loader, permit));
+    }
+
+    private CompletableFuture<Loaded> start(String key, Supplier<Object> loader, DbCircuitBreaker.Permit permit) {
+        CompletableFuture<Loaded> load = new CompletableFuture<>();
+        String endpoint = RequestTimings.current().getEndpoint();
+        long start = System.nanoTime();
+        // load completes once, by the loader or by the timeout, so each load is recorded exactly once.
+        // Callers get the recorded stage, so the outcome is in the breaker before they see it.
+        CompletableFuture<Loaded> recorded = load.orTimeout(loadAbandonMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> circuitBreaker.record(permit, System.nanoTime() - start, error != null));
+        loaders.execute(() -> {
+            RequestTimings timings = RequestTimings.beginDetached(endpoint);
+            try {
+                Object value = loader.get();
+                entries.put(key, new Entry(value, Instant.now()));
+                load.complete(new Loaded(value, timings.getDbNanos()));
+            } catch (RuntimeException | Error e) {
+                load.completeExceptionally(e);
+            } finally {
+                timings.endDetached();
+            }
+        });
+        return recorded;
+    }
+
+    private static Object fresh(Loaded loaded) {
+        RequestTimings.current().addDb(loaded.dbNanos());
+        return loaded.value();
+    }
+
+    private static ResponseStatusException unavailable() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Database temporarily unavailable");
+    }
+
+    private static Object stale(Entry cached) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            long seconds = Math.max(0, Duration.between(cached.loadedAt(), Instant.now()).toSeconds());
+            attributes.setAttribute(STALE_ATTRIBUTE, seconds, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cached.value();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loaders.shutdownNow();
+    }
+}
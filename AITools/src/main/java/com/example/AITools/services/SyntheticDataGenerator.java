@@ -0,0 +1,214 @@
+package com.example.AITools.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic dataset for the admins, AiTools and reviews tables.
+ * The same settings always produce the same rows. Review volume per tool follows a Zipf
+ * distribution, so a few tools get most of the reviews. A few users write many reviews,
+ * and ratings cluster around a per-tool quality. Rows are written with plain JDBC batches
+ * (no entities), so tens of millions of reviews stay practical. Generated rows are added
+ * to whatever is already in the tables, except admins: admins.name is the login name, so
+ * seed admins that already exist are reused rather than inserted again.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public record Settings(long seed,
+                           int admins,
+                           int tools,
+                           long reviews,
+                           double popularitySkew,
+                           int historyDays,
+                           Instant anchor,
+                           int batchSize) {
+    }
+
+    private static final String[] CATEGORIES = {
+            "Writing", "Coding", "Image", "Video", "Audio", "Chatbot",
+            "Productivity", "Research", "Marketing", "Design", "Data", "Education"};
+    // VARCHAR(255) columns: reviews.content, ai_tools.decription
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final String[] PRICING = {"Free", "Freemium", "Paid", "Enterprise"};
+    private static final String[] WORDS = {
+            "fast", "accurate", "useful", "slow", "pricey", "intuitive", "buggy", "great",
+            "support", "output", "quality", "workflow", "results", "interface", "team", "daily",
+            "export", "prompt", "model", "integration", "reliable", "cheap", "helpful", "limits"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String passwordHash;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, String passwordHash) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHash = passwordHash;
+    }
+
+    public Map<String, Object> generate(Settings settings) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long started = System.nanoTime();
+
+        long[] adminIds = insertAdmins(settings);
+        double[] quality = new double[settings.tools()];
+        long[] toolIds = insertTools(settings, random, adminIds, quality);
+        long reviews = insertReviews(settings, random, toolIds, quality);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("admins", adminIds.length);
+        summary.put("tools", toolIds.length);
+        summary.put("reviews", reviews);
+        summary.put("seconds", (System.nanoTime() - started) / 1_000_000_000.0);
+        return summary;
+    }
+
+    private long[] insertAdmins(Settings settings) {
+        List<String> names = new ArrayList<>();
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < settings.admins(); i++) {
+            String name = "seed-admin-" + settings.seed() + "-" + i;
+            names.add(name);
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM admins WHERE name = ?", Integer.class, name);
+            if (existing == null || existing == 0) {
+                missing.add(new Object[]{name, passwordHash});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO admins (name, password) VALUES (?, ?)", missing);
+        return names.stream()
+                .mapToLong(name -> jdbcTemplate.queryForObject("SELECT MIN(id) FROM admins WHERE name = ?", Long.class, name))
+                .toArray();
+    }
+
+    private long[] insertTools(Settings settings, SplittableRandom random, long[] adminIds, double[] quality) {
+        long before = maxId("ai_tools");
+        String sql = "INSERT INTO ai_tools (name, decription, usecases, category, pricingtype, rating, "
+                + "updated_at, change_version, admin_id) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+        List<Object[]> batch = new ArrayList<>(settings.batchSize());
+        for (int i = 0; i < settings.tools(); i++) {
+            // skewed towards good tools, as a curated catalog would be
+            quality[i] = 1.5 + 3.5 * Math.sqrt(random.nextDouble());
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            batch.add(new Object[]{
+                    "Synthetic Tool " + settings.seed() + "-" + i,
+                    sentence(random, 12, 30, MAX_TEXT_LENGTH),
+                    category + ", " + WORDS[random.nextInt(WORDS.length)] + ", " + WORDS[random.nextInt(WORDS.length)],
+                    category,
+                    PRICING[random.nextInt(PRICING.length)],
+                    Math.round(quality[i] * 10) / 10.0,
+                    Timestamp.from(pastInstant(settings, random)),
+                    adminIds.length == 0 ? null : adminIds[i % adminIds.length]});
+            if (batch.size() == settings.batchSize()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        return idsAfter("ai_tools", before);
+    }
+
+    private long insertReviews(Settings settings, SplittableRandom random, long[] toolIds, double[] quality) {
+        if (toolIds.length == 0) {
+            return 0;
+        }
+        // Zipf popularity over a shuffled ranking, so the popular tools are spread across the id range
+        int[] toolByRank = new int[toolIds.length];
+        for (int i = 0; i < toolByRank.length; i++) {
+            toolByRank[i] = i;
+        }
+        for (int i = toolByRank.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = toolByRank[i];
+            toolByRank[i] = toolByRank[j];
+            toolByRank[j] = swap;
+        }
+        double[] cumulative = new double[toolIds.length];
+        double total = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            total += 1.0 / Math.pow(rank + 1, settings.popularitySkew());
+            cumulative[rank] = total;
+        }
+        long users = Math.max(100, settings.reviews() / 10);
+
+        String sql = "INSERT INTO reviews (content, rating, username, status, aitool_id, submitted_at, approved_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(settings.batchSize());
+        for (long n = 0; n < settings.reviews(); n++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            int tool = toolByRank[Math.min(rank < 0 ? -rank - 1 : rank, toolByRank.length - 1)];
+            double rating = Math.max(1.0, Math.min(5.0,
+                    Math.round((quality[tool] + (random.nextDouble() - 0.5) * 2.0) * 2) / 2.0));
+            // cubing concentrates reviews on a small set of heavy reviewers
+            double userDraw = random.nextDouble();
+            long user = (long) (userDraw * userDraw * userDraw * users);
+
+            int statusDraw = random.nextInt(100);
+            String status = statusDraw < 85 ? "APPROVED" : statusDraw < 95 ? "PENDING" : "REJECTED";
+            Instant submittedAt = pastInstant(settings, random);
+            Instant approvedAt = null;
+            if (status.equals("APPROVED")) {
+                Instant moderated = submittedAt.plusSeconds(random.nextLong(48 * 3600));
+                approvedAt = moderated.isAfter(settings.anchor()) ? settings.anchor() : moderated;
+            }
+
+            batch.add(new Object[]{
+                    sentence(random, 6, 40, MAX_TEXT_LENGTH),
+                    rating,
+                    "user" + user,
+                    status,
+                    toolIds[tool],
+                    Timestamp.from(submittedAt),
+                    approvedAt == null ? null : Timestamp.from(approvedAt)});
+            if (batch.size() == settings.batchSize()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+            if ((n + 1) % 1_000_000 == 0) {
+                log.info("Synthetic data: {} of {} reviews written", n + 1, settings.reviews());
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        return settings.reviews();
+    }
+
+    private static Instant pastInstant(Settings settings, SplittableRandom random) {
+        return settings.anchor().minusSeconds(random.nextLong(Math.max(1L, settings.historyDays() * 86_400L)));
+    }
+
+    // Whole words only, never longer than maxLength; the random draws do not depend on the cap
+    private static String sentence(SplittableRandom random, int minWords, int maxWords, int maxLength) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (text.length() + (i > 0 ? 1 : 0) + word.length() > maxLength) {
+                continue;
+            }
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(word);
+        }
+        return text.toString();
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0L : max;
+    }
+
+    private long[] idsAfter(String table, long afterId) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id", Long.class, afterId)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+}
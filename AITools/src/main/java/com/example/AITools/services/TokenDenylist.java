@@ -0,0 +1,135 @@
+package com.example.AITools.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Revoked JWTs, kept in memory. Two kinds of entry:
+ * - a token id (jti), revoking that one token
+ * - a subject, revoking every token issued to that username up to the revocation time
+ * Each entry is dropped once every token it covers has expired anyway.
+ * A Bloom filter sits in front of the exact maps. Almost every lookup is a few hashed
+ * bit tests over the token's strings, with no allocation and no map access.
+ * A Bloom filter cannot forget, so it is rebuilt from the live entries on each purge.
+ * The denylist is process-local and not persisted. After a restart, or on another node, a
+ * token revoked through /auth/admin/logout is accepted again until it expires (at most the
+ * 24 h token lifetime).
+ */
+@Service
+public class TokenDenylist {
+
+    private static final long ID_SEED = 0x9E3779B97F4A7C15L;
+    private static final long SUBJECT_SEED = 0xC2B2AE3D27D4EB4FL;
+    private static final LongBinaryOperator OR = (a, b) -> a | b;
+
+    private record Entry(long revokedAtMillis, long expiresAtMillis) {
+    }
+
+    private final int bitMask;
+    private final int hashCount;
+    private final Map<String, Entry> revokedIds = new ConcurrentHashMap<>();
+    private final Map<String, Entry> revokedSubjects = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom;
+
+    public TokenDenylist(@Value("${aitools.jwt.denylist.bloom-bits:65536}") int bloomBits,
+                         @Value("${aitools.jwt.denylist.hash-count:4}") int hashCount) {
+        int bits = Integer.highestOneBit(Math.max(64, bloomBits));
+        this.bitMask = bits - 1;
+        this.hashCount = hashCount;
+        this.bloom = new AtomicLongArray(bits / 64);
+    }
+
+    public synchronized void revokeId(String tokenId, long expiresAtMillis) {
+        revokedIds.put(tokenId, new Entry(Long.MAX_VALUE, expiresAtMillis));
+        add(bloom, tokenId, ID_SEED);
+    }
+
+    // Tokens issued to the subject at or before now; none outlive now + tokenLifetime
+    public synchronized void revokeSubject(String subject, long tokenLifetimeMillis) {
+        long now = System.currentTimeMillis();
+        revokedSubjects.put(subject, new Entry(now, now + tokenLifetimeMillis));
+        add(bloom, subject, SUBJECT_SEED);
+    }
+
+    public boolean isRevoked(String tokenId, String subject, long issuedAtMillis) {
+        AtomicLongArray filter = bloom;
+        if (tokenId != null && mightContain(filter, tokenId, ID_SEED)) {
+            Entry entry = revokedIds.get(tokenId);
+            if (entry != null && entry.expiresAtMillis() > System.currentTimeMillis()) {
+                return true;
+            }
+        }
+        if (subject != null && mightContain(filter, subject, SUBJECT_SEED)) {
+            Entry entry = revokedSubjects.get(subject);
+            return entry != null
+                    && issuedAtMillis <= entry.revokedAtMillis()
+                    && entry.expiresAtMillis() > System.currentTimeMillis();
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${aitools.jwt.denylist.purge-ms:600000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedIds.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        revokedSubjects.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+        AtomicLongArray rebuilt = new AtomicLongArray(bloom.length());
+        revokedIds.keySet().forEach(id -> add(rebuilt, id, ID_SEED));
+        revokedSubjects.keySet().forEach(subject -> add(rebuilt, subject, SUBJECT_SEED));
+        bloom = rebuilt;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("revokedTokens", revokedIds.size());
+        stats.put("revokedSubjects", revokedSubjects.size());
+        stats.put("bloomBits", bitMask + 1);
+        return stats;
+    }
+
+    private void add(AtomicLongArray filter, String value, long seed) {
+        long hash = hash(value, seed);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            filter.accumulateAndGet(bit >>> 6, 1L << bit, OR);
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray filter, String value, long seed) {
+        long hash = hash(value, seed);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (h1 + i * h2) & bitMask;
+            if ((filter.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the chars with a murmur3 finalizer; reads the string in place
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.AITools.services;
+
+import com.example.AITools.events.AiToolChangedEvent;
+import com.example.AITools.events.ReviewChangedEvent;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.ReveiwsRepo;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * "Trending this week": per tool, a ring of hourly buckets counting approved reviews and
+ * summing their ratings over the last window-hours. Approvals add to the bucket of their
+ * approval hour and un-approvals take it back out. A slot is reset lazily when the ring
+ * wraps around to a new hour. Tools are ranked by recency-weighted review volume times a
+ * smoothed average rating. The ranking is cached until the next change or hour rollover.
+ */
+@Service
+public class TrendingToolsService {
+
+    private static final long HOUR_SECONDS = 3600;
+    // smoothing: a tool with few reviews is pulled towards an average rating of 3 / 5
+    private static final double PRIOR_RATING = 3.0;
+    private static final double PRIOR_WEIGHT = 5.0;
+
+    private final ReveiwsRepo reveiwsRepo;
+    private final int windowHours;
+    private final int maxRanked;
+
+    private final Long2ObjectOpenHashMap<Ring> rings = new Long2ObjectOpenHashMap<>();
+    private volatile Ranking ranking;
+
+    public TrendingToolsService(ReveiwsRepo reveiwsRepo,
+                                @Value("${aitools.trending.window-hours:168}") int windowHours,
+                                @Value("${aitools.trending.max:100}") int maxRanked) {
+        this.reveiwsRepo = reveiwsRepo;
+        this.windowHours = windowHours;
+        this.maxRanked = maxRanked;
+    }
+
+    public record TrendingTool(long toolId, int approvedReviews, double averageRating, double score) {
+    }
+
+    private record Ranking(long hour, List<TrendingTool> tools) {
+    }
+
+    private final class Ring {
+        final long[] hours = new long[windowHours];
+        final int[] counts = new int[windowHours];
+        final double[] ratingSums = new double[windowHours];
+
+        Ring() {
+            Arrays.fill(hours, Long.MIN_VALUE);
+        }
+    }
+
+    public List<TrendingTool> getTrending(int limit) {
+        long now = currentHour();
+        Ranking current = ranking;
+        if (current == null || current.hour() != now) {
+            current = rank(now);
+        }
+        List<TrendingTool> tools = current.tools();
+        return tools.subList(0, Math.min(Math.max(limit, 0), tools.size()));
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.approvedAt() == null || event.wasApproved() == event.isApproved()) {
+            return;
+        }
+        record(event.aiToolId(), event.rating(), event.approvedAt(), event.isApproved() ? 1 : -1);
+    }
+
+    // A tool delete removes its reviews in bulk without per-review events
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onToolChanged(AiToolChangedEvent event) {
+        if (event.type() == AiToolChangedEvent.ChangeType.DELETED && rings.remove(event.toolId().longValue()) != null) {
+            ranking = null;
+        }
+    }
+
+    /**
+     * Loads the approvals that fall inside the window. This runs once at startup and
+     * is the only query the trending feed ever makes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rings.clear();
+        ranking = null;
+        Instant since = Instant.ofEpochSecond((currentHour() - windowHours + 1) * HOUR_SECONDS);
+        for (Object[] row : reveiwsRepo.findApprovedSince(Reveiws.ReviewStatus.APPROVED, since)) {
+            record((Long) row[0], (Double) row[1], (Instant) row[2], 1);
+        }
+    }
+
+    private synchronized void record(long toolId, Double rating, Instant approvedAt, int delta) {
+        long now = currentHour();
+        long hour = Math.min(approvedAt.getEpochSecond() / HOUR_SECONDS, now);
+        if (hour <= now - windowHours) {
+            return;
+        }
+        Ring ring = rings.get(toolId);
+        if (ring == null) {
+            if (delta < 0) {
+                return;
+            }
+            ring = new Ring();
+            rings.put(toolId, ring);
+        }
+        int slot = (int) Math.floorMod(hour, (long) windowHours);
+        if (ring.hours[slot] != hour) {
+            if (delta < 0) {
+                // the approval's bucket has already been recycled
+                return;
+            }
+            ring.hours[slot] = hour;
+            ring.counts[slot] = 0;
+            ring.ratingSums[slot] = 0;
+        }
+        ring.counts[slot] += delta;
+        ring.ratingSums[slot] += delta * (rating != null ? rating : 0.0);
+        ranking = null;
+    }
+
+    private synchronized Ranking rank(long now) {
+        Ranking current = ranking;
+        if (current != null && current.hour() == now) {
+            return current;
+        }
+        List<TrendingTool> tools = new ArrayList<>();
+        for (Long2ObjectMap.Entry<Ring> entry : rings.long2ObjectEntrySet()) {
+            Ring ring = entry.getValue();
+            int count = 0;
+            double ratingSum = 0;
+            double weighted = 0;
+            for (int slot = 0; slot < windowHours; slot++) {
+                long age = now - ring.hours[slot];
+                if (age < 0 || age >= windowHours || ring.counts[slot] <= 0) {
+                    continue;
+                }
+                count += ring.counts[slot];
+                ratingSum += ring.ratingSums[slot];
+                // linear decay: approvals this hour weigh 1, the oldest in the window close to 0
+                weighted += ring.counts[slot] * (1.0 - (double) age / windowHours);
+            }
+            if (count == 0) {
+                continue;
+            }
+            double smoothedRating = (ratingSum + PRIOR_RATING * PRIOR_WEIGHT) / (count + PRIOR_WEIGHT);
+            tools.add(new TrendingTool(entry.getLongKey(), count, ratingSum / count, weighted * smoothedRating / 5.0));
+        }
+        tools.sort(Comparator.comparingDouble(TrendingTool::score).reversed()
+                .thenComparingLong(TrendingTool::toolId));
+        current = new Ranking(now, List.copyOf(tools.subList(0, Math.min(maxRanked, tools.size()))));
+        ranking = current;
+        return current;
+    }
+
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / HOUR_SECONDS;
+    }
+}
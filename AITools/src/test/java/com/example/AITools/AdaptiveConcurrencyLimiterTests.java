@@ -0,0 +1,81 @@
+package com.example.AITools;
+
+import com.example.AITools.services.AdaptiveConcurrencyLimiter;
+import com.example.AITools.services.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTests {
+
+    @Test
+    void lowerClassesAreShedFirst() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0.2);
+
+        // shares of a limit of 10: public submit 6, public read 7, admin read 9, admin write 10
+        for (int i = 0; i < 6; i++) {
+            assertTrue(limiter.tryAcquire(Priority.PUBLIC_SUBMIT));
+        }
+        assertFalse(limiter.tryAcquire(Priority.PUBLIC_SUBMIT));
+        assertTrue(limiter.tryAcquire(Priority.PUBLIC_READ));
+        assertFalse(limiter.tryAcquire(Priority.PUBLIC_READ));
+        assertTrue(limiter.tryAcquire(Priority.ADMIN_READ));
+        assertTrue(limiter.tryAcquire(Priority.ADMIN_READ));
+        assertFalse(limiter.tryAcquire(Priority.ADMIN_READ));
+        assertTrue(limiter.tryAcquire(Priority.ADMIN_WRITE));
+        assertFalse(limiter.tryAcquire(Priority.ADMIN_WRITE));
+
+        limiter.release(0, false);
+        assertTrue(limiter.tryAcquire(Priority.ADMIN_WRITE));
+    }
+
+    @Test
+    void limitGrowsAtSteadyLatencyAndShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0.5);
+
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(2), 30);
+        int grown = limit(limiter);
+        assertTrue(grown > 20, "limit should grow while latency holds, was " + grown);
+
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(20), 30);
+        int shrunk = limit(limiter);
+        assertTrue(shrunk < grown, "limit should shrink once latency rises, was " + grown + " then " + shrunk);
+        assertTrue(shrunk >= 5);
+    }
+
+    @Test
+    void unmeasuredAndIdleReleasesLeaveTheLimitAlone() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0.5);
+
+        for (int i = 0; i < 50; i++) {
+            // one request in flight out of 20: far below half the limit
+            assertTrue(limiter.tryAcquire(Priority.PUBLIC_READ));
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(500), true);
+            assertTrue(limiter.tryAcquire(Priority.PUBLIC_READ));
+            limiter.release(TimeUnit.SECONDS.toNanos(5), false);
+        }
+        assertEquals(20, limit(limiter));
+    }
+
+    // Fills every slot, then releases the first request with a measured latency, repeatedly
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int held = 0;
+            while (limiter.tryAcquire(Priority.ADMIN_WRITE)) {
+                held++;
+            }
+            limiter.release(latencyNanos, true);
+            for (int i = 1; i < held; i++) {
+                limiter.release(latencyNanos, false);
+            }
+        }
+    }
+
+    private static int limit(AdaptiveConcurrencyLimiter limiter) {
+        return (Integer) limiter.stats().get("limit");
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.AITools;
+
+import com.example.AITools.model.Admin;
+import com.example.AITools.model.AiTools;
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.AdminRepo;
+import com.example.AITools.repository.AiToolsRepo;
+import com.example.AITools.repository.ReveiwsRepo;
+import com.example.AITools.services.AiToolsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Compares the old cascade delete (load tool, orphanRemoval deletes reviews row by row)
+ * with AiToolsService.deleteAiTool's chunked set-based delete.
+ * Run with: ./mvnw test -pl AITools -Dtest=AiToolDeleteBenchmarkTests -Dbenchmarks=true -Dbenchmark.reviews=20000
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class AiToolDeleteBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(AiToolDeleteBenchmarkTests.class);
+
+    @Autowired
+    private AdminRepo adminRepo;
+
+    @Autowired
+    private AiToolsRepo aiToolsRepo;
+
+    @Autowired
+    private ReveiwsRepo reveiwsRepo;
+
+    @Autowired
+    private AiToolsService aiToolsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void cascadeVersusSetBasedDelete() {
+        int reviewCount = Integer.getInteger("benchmark.reviews", 20000);
+        Admin admin = new Admin();
+        admin.setName("benchmark-admin-" + System.nanoTime());
+        admin.setPassword("unused");
+        admin = adminRepo.save(admin);
+
+        Long cascadeToolId = seedTool(admin, reviewCount);
+        long cascadeStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+                aiToolsRepo.delete(aiToolsRepo.findById(cascadeToolId).orElseThrow()));
+        long cascadeMillis = (System.nanoTime() - cascadeStart) / 1_000_000;
+
+        Long setBasedToolId = seedTool(admin, reviewCount);
+        long setBasedStart = System.nanoTime();
+        aiToolsService.deleteAiTool(setBasedToolId, admin.getId());
+        long setBasedMillis = (System.nanoTime() - setBasedStart) / 1_000_000;
+
+        log.info("Deleting a tool with {} reviews: cascade {} ms, set-based {} ms",
+                reviewCount, cascadeMillis, setBasedMillis);
+
+        assertFalse(aiToolsRepo.existsById(cascadeToolId));
+        assertFalse(aiToolsRepo.existsById(setBasedToolId));
+        adminRepo.delete(admin);
+    }
+
+    private Long seedTool(Admin admin, int reviewCount) {
+        AiTools tool = new AiTools();
+        tool.setName("benchmark-tool-" + System.nanoTime());
+        tool.setCategory("benchmark");
+        tool.setAdmin(admin);
+        AiTools savedTool = aiToolsRepo.save(tool);
+
+        List<Reveiws> batch = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            batch.add(new Reveiws(null, "benchmark review " + i, 4.0, "user" + i,
+                    Reveiws.ReviewStatus.APPROVED, savedTool));
+            if (batch.size() == 1000) {
+                reveiwsRepo.saveAll(batch);
+                batch.clear();
+            }
+        }
+        reveiwsRepo.saveAll(batch);
+        return savedTool.getId();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.AITools;
+
+import com.example.AITools.controller.ReveiwsController;
+import com.example.AITools.model.AiTools;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Payload size and encode/decode time of JSON vs CBOR vs Smile for the list payloads of
+ * GET /api/aitools and GET /api/reviews/approved. Data is generated with a fixed seed.
+ * Run with: ./mvnw test -pl AITools -Dtest=BinaryFormatBenchmarkTests -Dbenchmarks=true
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class BinaryFormatBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryFormatBenchmarkTests.class);
+
+    private static final int[] LIST_SIZES = {100, 1_000, 10_000};
+    private static final String[] WORDS = {"fast", "ai", "assistant", "image", "text", "code", "search",
+            "summarize", "video", "audio", "translate", "chat", "model", "api", "workflow", "team"};
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+    private final ObjectMapper smile = SmileMapper.builder().build();
+
+    @Test
+    void toolLists() {
+        for (int size : LIST_SIZES) {
+            List<AiTools> tools = tools(size);
+            TypeReference<List<AiTools>> type = new TypeReference<>() {
+            };
+            log.info("{} tools", size);
+            measure("json ", json, tools, type);
+            measure("cbor ", cbor, tools, type);
+            measure("smile", smile, tools, type);
+        }
+    }
+
+    @Test
+    void reviewLists() {
+        for (int size : LIST_SIZES) {
+            List<ReveiwsController.ReviewResponseDTO> reviews = reviews(size);
+            TypeReference<List<ReveiwsController.ReviewResponseDTO>> type = new TypeReference<>() {
+            };
+            log.info("{} reviews", size);
+            measure("json ", json, reviews, type);
+            measure("cbor ", cbor, reviews, type);
+            measure("smile", smile, reviews, type);
+        }
+    }
+
+    private <T> void measure(String label, ObjectMapper mapper, List<T> value, TypeReference<List<T>> type) {
+        byte[] bytes = mapper.writeValueAsBytes(value);
+        int iterations = Math.max(20, 200_000 / value.size());
+        for (int i = 0; i < iterations; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(value), type);
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = mapper.writeValueAsBytes(value);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / iterations;
+
+        List<T> decoded = null;
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            decoded = mapper.readValue(bytes, type);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / iterations;
+
+        assertEquals(value.size(), decoded.size());
+        log.info("  {} {} bytes  encode {} us  decode {} us",
+                label, bytes.length, encodeNanos / 1000, decodeNanos / 1000);
+    }
+
+    private static List<AiTools> tools(int size) {
+        Random random = new Random(42);
+        List<AiTools> tools = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            AiTools tool = new AiTools((long) i + 1, "Tool " + (i + 1) + " " + words(random, 2),
+                    words(random, 60), words(random, 30), WORDS[random.nextInt(WORDS.length)],
+                    random.nextBoolean() ? "Free" : "Paid", Math.round(random.nextDouble() * 50) / 10.0, null);
+            tool.setUpdatedAt(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(10_000_000)));
+            tool.setChangeVersion(i + 1);
+            tools.add(tool);
+        }
+        return tools;
+    }
+
+    private static List<ReveiwsController.ReviewResponseDTO> reviews(int size) {
+        Random random = new Random(7);
+        List<ReveiwsController.ReviewResponseDTO> reviews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ReveiwsController.ReviewResponseDTO review = new ReveiwsController.ReviewResponseDTO();
+            review.setId((long) i + 1);
+            review.setContent(words(random, 25));
+            review.setRating((double) (1 + random.nextInt(5)));
+            review.setUsername("user" + random.nextInt(5_000));
+            review.setStatus("APPROVED");
+            review.setAiToolId((long) 1 + random.nextInt(500));
+            review.setAiToolName("Tool " + review.getAiToolId());
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.AITools;
+
+import com.example.AITools.services.DbCircuitBreaker;
+import com.example.AITools.services.DbCircuitBreaker.Permit;
+import com.example.AITools.services.DbCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DbCircuitBreakerTests {
+
+    private static final long OPEN_MS = 10_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    // 1 s slow-call threshold, window of 10, opens at 50% bad after 4 calls
+    private final DbCircuitBreaker breaker = new DbCircuitBreaker(1_000, 10, 4, 0.5, OPEN_MS, clock::get);
+
+    @Test
+    void opensOnceTheBadShareReachesTheThreshold() {
+        recordNormal(false);
+        recordNormal(false);
+        recordNormal(true);
+        assertEquals(State.CLOSED, state());
+
+        // slow calls count as bad too
+        assertEquals(Permit.NORMAL, breaker.tryAcquire());
+        breaker.record(Permit.NORMAL, TimeUnit.SECONDS.toNanos(2), false);
+
+        assertEquals(State.OPEN, state());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpenLetsOneTrialThroughAndItsSuccessCloses() {
+        open();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_MS - 1));
+        assertNull(breaker.tryAcquire());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(Permit.TRIAL, breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, state());
+        assertNull(breaker.tryAcquire());
+
+        // a load started before the breaker opened finishes now: it must not decide the trial
+        breaker.record(Permit.NORMAL, 0, false);
+        assertEquals(State.HALF_OPEN, state());
+
+        breaker.record(Permit.TRIAL, 0, false);
+        assertEquals(State.CLOSED, state());
+        assertEquals(Permit.NORMAL, breaker.tryAcquire());
+    }
+
+    @Test
+    void failedTrialOpensAgainForAnotherFullPeriod() {
+        open();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_MS));
+        assertEquals(Permit.TRIAL, breaker.tryAcquire());
+
+        breaker.record(Permit.TRIAL, 0, true);
+
+        assertEquals(State.OPEN, state());
+        assertEquals(2L, breaker.stats().get("timesOpened"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_MS - 1));
+        assertNull(breaker.tryAcquire());
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(Permit.TRIAL, breaker.tryAcquire());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            recordNormal(true);
+        }
+        assertEquals(State.OPEN, state());
+    }
+
+    private void recordNormal(boolean failed) {
+        assertEquals(Permit.NORMAL, breaker.tryAcquire());
+        breaker.record(Permit.NORMAL, 0, failed);
+    }
+
+    private State state() {
+        return (State) breaker.stats().get("state");
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.AITools;
+
+import com.example.AITools.model.AiTools;
+import com.example.AITools.services.FuzzyToolIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FuzzyToolIndexTests {
+
+    @Test
+    void shortTransposedQueryFindsTool() {
+        FuzzyToolIndex index = new FuzzyToolIndex(null);
+        AiTools sora = new AiTools(1L, "Sora", null, null, "Video", "Paid", 4.5, null);
+        index.index(sora);
+
+        // "sroa" shares only two padded trigrams with "sora" but is one transposition away
+        List<FuzzyToolIndex.Match> matches = index.search("sroa", null, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).toolId());
+        assertEquals(1, matches.get(0).distance());
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.AITools;
+
+import com.example.AITools.model.Reveiws;
+import com.example.AITools.repository.AiToolsProjectionRepo;
+import com.example.AITools.repository.AiToolsRepo;
+import com.example.AITools.repository.ReveiwsRepo;
+import com.example.AITools.services.SyntheticDataGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every AiToolsRepo / ReveiwsRepo query against an embedded H2 database seeded with
+ * SyntheticDataGenerator, captures the SQL Hibernate sends, and checks the EXPLAIN plan of
+ * each statement: every table must be reached through one of the indexes listed for the
+ * query (by leading column), and a full scan fails unless the query is expected to read
+ * the whole table. A repository method without an entry here also fails, so new queries
+ * get an expectation when they are added.
+ * H2's planner is not MySQL's; this catches queries whose predicates stop matching any
+ * index, not differences in how the two engines cost them.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plans;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.AITools.QueryPlanRegressionTests$CapturingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanRegressionTests {
+
+    private static final String FULL_SCAN = "<full scan>";
+    private static final Pattern ACCESS = Pattern.compile("/\\* (\\w+)\\.(\\w+)(\\.tableScan)?(: [^*]*)? \\*/");
+
+    @Autowired
+    private AiToolsRepo aiToolsRepo;
+
+    @Autowired
+    private ReveiwsRepo reveiwsRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // index name -> {table, leading column}
+    private final Map<String, String[]> indexes = new HashMap<>();
+    private final Set<String> covered = new HashSet<>();
+    private final List<String> failures = new ArrayList<>();
+
+    @Test
+    void repositoryQueriesUseTheirIndexes() {
+        new SyntheticDataGenerator(jdbcTemplate, "unused").generate(new SyntheticDataGenerator.Settings(
+                7L, 3, Integer.getInteger("plans.tools", 500), Long.getLong("plans.reviews", 20000L),
+                1.1, 90, Instant.parse("2026-01-01T00:00:00Z"), 1000));
+        jdbcTemplate.query(
+                "SELECT INDEX_NAME, TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                        + "WHERE TABLE_SCHEMA = 'PUBLIC' AND ORDINAL_POSITION = 1",
+                (RowCallbackHandler) rs -> indexes.put(rs.getString(1), new String[]{rs.getString(2), rs.getString(3)}));
+
+        Long adminId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM admins", Long.class);
+        Long toolId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM ai_tools", Long.class);
+        Long otherToolId = toolId + 1;
+        Long reviewId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM reviews", Long.class);
+        List<Long> reviewIds = List.of(reviewId, reviewId + 1, reviewId + 2);
+        Instant since = Instant.parse("2025-12-01T00:00:00Z");
+        Reveiws.ReviewStatus approved = Reveiws.ReviewStatus.APPROVED;
+        // writes target ids that do not exist, so the seeded data stays the same for later queries
+        Long missing = -1L;
+
+        check("findById", () -> aiToolsRepo.findById(toolId),
+                Map.of("AI_TOOLS", Set.of("ID")));
+        check("findByAdminId", () -> aiToolsRepo.findByAdminId(adminId),
+                Map.of("AI_TOOLS", Set.of("ADMIN_ID")));
+        check("findByIdAndAdminId", () -> aiToolsRepo.findByIdAndAdminId(toolId, adminId),
+                Map.of("AI_TOOLS", Set.of("ID", "ADMIN_ID")));
+        check("existsByIdAndAdminId", () -> aiToolsRepo.existsByIdAndAdminId(toolId, adminId),
+                Map.of("AI_TOOLS", Set.of("ID", "ADMIN_ID")));
+        check("findWithLockByIdAndAdminId", () -> aiToolsRepo.findWithLockByIdAndAdminId(toolId, adminId),
+                Map.of("AI_TOOLS", Set.of("ID", "ADMIN_ID")));
+        check("findByUpdatedAtGreaterThanEqual", () -> aiToolsRepo.findByUpdatedAtGreaterThanEqual(since),
+                Map.of("AI_TOOLS", Set.of("UPDATED_AT")));
+        check("findByChangeVersionGreaterThanOrderByChangeVersionAsc",
+                () -> aiToolsRepo.findByChangeVersionGreaterThanOrderByChangeVersionAsc(0L, PageRequest.of(0, 100)),
+                Map.of("AI_TOOLS", Set.of("CHANGE_VERSION")));
+        // The full id list is read by design
+        check("findAllIds", () -> aiToolsRepo.findAllIds(),
+                Map.of("AI_TOOLS", Set.of(FULL_SCAN)));
+        check("findIdsWithoutChangeVersion", () -> aiToolsRepo.findIdsWithoutChangeVersion(),
+                Map.of("AI_TOOLS", Set.of("CHANGE_VERSION")));
+        check("setChangeVersion", () -> aiToolsRepo.setChangeVersion(missing, 1L),
+                Map.of("AI_TOOLS", Set.of("ID")));
+        check("deleteByIdAndAdminId", () -> aiToolsRepo.deleteByIdAndAdminId(missing, adminId),
+                Map.of("AI_TOOLS", Set.of("ID", "ADMIN_ID")));
+        // Case-insensitive optional filters cannot use an index; once the catalog cache is ready it
+        // answers these, so this query only runs during warm-up
+        check("filterTools", () -> aiToolsRepo.filterTools("Coding", null, 3.0),
+                Map.of("AI_TOOLS", Set.of(FULL_SCAN)));
+        check("findFields", () -> aiToolsRepo.findFields(List.of("id", "name"), null, null, null, List.of(toolId, otherToolId)),
+                Map.of("AI_TOOLS", Set.of("ID")));
+
+        check("findByStatusWithAiTool", () -> reveiwsRepo.findByStatusWithAiTool(Reveiws.ReviewStatus.PENDING),
+                Map.of("REVIEWS", Set.of("STATUS"), "AI_TOOLS", Set.of("ID")));
+        check("findByAiToolIdWithFetch", () -> reveiwsRepo.findByAiToolIdWithFetch(toolId),
+                Map.of("REVIEWS", Set.of("AITOOL_ID"), "AI_TOOLS", Set.of("ID")));
+        check("findByAiToolIdAndStatusWithFetch", () -> reveiwsRepo.findByAiToolIdAndStatusWithFetch(toolId, approved),
+                Map.of("REVIEWS", Set.of("AITOOL_ID", "STATUS"), "AI_TOOLS", Set.of("ID")));
+        check("findByIdWithAiTool", () -> reveiwsRepo.findByIdWithAiTool(reviewId),
+                Map.of("REVIEWS", Set.of("ID"), "AI_TOOLS", Set.of("ID")));
+        check("findReviewerChunk", () -> reveiwsRepo.findReviewerChunk(approved, 0L, PageRequest.of(0, 1000)),
+                Map.of("REVIEWS", Set.of("STATUS", "ID")));
+        check("findContentChunkBefore",
+                () -> reveiwsRepo.findContentChunkBefore(Long.MAX_VALUE, Reveiws.ReviewStatus.REJECTED, PageRequest.of(0, 1000)),
+                Map.of("REVIEWS", Set.of("ID")));
+        check("lockClaimablePendingIds", () -> reveiwsRepo.lockClaimablePendingIds(Instant.now(), 10),
+                Map.of("REVIEWS", Set.of("STATUS", "ID")));
+        check("leaseReviews", () -> reveiwsRepo.leaseReviews(List.of(missing), "admin", Instant.now()),
+                Map.of("REVIEWS", Set.of("ID")));
+        check("findTopApprovedIdsPerAiTool", () -> reveiwsRepo.findTopApprovedIdsPerAiTool(List.of(toolId, otherToolId), 3),
+                Map.of("REVIEWS", Set.of("AITOOL_ID", "STATUS")));
+        check("findByIdsWithAiTool", () -> reveiwsRepo.findByIdsWithAiTool(reviewIds),
+                Map.of("REVIEWS", Set.of("ID"), "AI_TOOLS", Set.of("ID")));
+        check("deleteChunkByAiToolId", () -> reveiwsRepo.deleteChunkByAiToolId(missing, 1000),
+                Map.of("REVIEWS", Set.of("AITOOL_ID")));
+        check("deleteAllByAiToolId", () -> reveiwsRepo.deleteAllByAiToolId(missing),
+                Map.of("REVIEWS", Set.of("AITOOL_ID")));
+        check("aggregateRatingsByStatus", () -> reveiwsRepo.aggregateRatingsByStatus(approved),
+                Map.of("REVIEWS", Set.of("STATUS")));
+        check("findApprovedSince", () -> reveiwsRepo.findApprovedSince(approved, since),
+                Map.of("REVIEWS", Set.of("STATUS", "APPROVED_AT")));
+        check("findIdsSubmittedBefore",
+                () -> reveiwsRepo.findIdsSubmittedBefore(Reveiws.ReviewStatus.REJECTED, since, PageRequest.of(0, 1000)),
+                Map.of("REVIEWS", Set.of("STATUS", "ID")));
+        check("findIdsApprovedBefore", () -> reveiwsRepo.findIdsApprovedBefore(approved, since, PageRequest.of(0, 1000)),
+                Map.of("REVIEWS", Set.of("STATUS", "APPROVED_AT", "ID")));
+        check("findEventRowsByIds", () -> reveiwsRepo.findEventRowsByIds(reviewIds),
+                Map.of("REVIEWS", Set.of("ID")));
+        check("deleteByIds", () -> reveiwsRepo.deleteByIds(List.of(missing)),
+                Map.of("REVIEWS", Set.of("ID")));
+
+        for (Class<?> repository : List.of(AiToolsRepo.class, AiToolsProjectionRepo.class, ReveiwsRepo.class)) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic() && !covered.contains(method.getName())) {
+                    failures.add(repository.getSimpleName() + "." + method.getName() + ": no plan expectation");
+                }
+            }
+        }
+        assertTrue(failures.isEmpty(), String.join("\n\n", failures));
+    }
+
+    private void check(String query, Runnable call, Map<String, Set<String>> expected) {
+        covered.add(query);
+        entityManager.clear();
+        CapturingInspector.start();
+        try {
+            call.run();
+        } finally {
+            List<String> statements = CapturingInspector.stop();
+            if (statements.isEmpty()) {
+                failures.add(query + ": no SQL captured");
+            }
+            for (String sql : statements) {
+                String plan = explain(sql);
+                for (Map.Entry<String, Set<String>> access : accessPaths(plan).entrySet()) {
+                    Set<String> allowed = expected.get(access.getKey());
+                    if (allowed == null || !allowed.containsAll(access.getValue())) {
+                        failures.add(query + ": " + access.getKey() + " read via " + access.getValue()
+                                + ", expected " + allowed + "\n" + plan);
+                    }
+                }
+            }
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                // H2 plans at prepare time, so the values do not change the plan
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    // table -> how it is read: the leading column of the index used, or FULL_SCAN
+    private Map<String, Set<String>> accessPaths(String plan) {
+        Map<String, Set<String>> paths = new LinkedHashMap<>();
+        Matcher matcher = ACCESS.matcher(plan.replace("\"", ""));
+        while (matcher.find()) {
+            String table;
+            String path;
+            if (matcher.group(3) != null) {
+                table = matcher.group(2);
+                path = FULL_SCAN;
+            } else {
+                String[] index = indexes.get(matcher.group(2));
+                if (index == null) {
+                    continue;
+                }
+                table = index[0];
+                // an index walked without a condition still reads every row
+                path = matcher.group(4) == null ? FULL_SCAN : index[1];
+            }
+            paths.computeIfAbsent(table, t -> new HashSet<>()).add(path);
+        }
+        return paths;
+    }
+
+    /** Collects the SQL Hibernate prepares while a check is running. */
+    public static class CapturingInspector implements StatementInspector {
+
+        private static volatile List<String> captured;
+
+        static void start() {
+            captured = new ArrayList<>();
+        }
+
+        static List<String> stop() {
+            List<String> statements = captured;
+            captured = null;
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured;
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
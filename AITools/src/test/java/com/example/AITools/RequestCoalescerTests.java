@@ -0,0 +1,84 @@
+package com.example.AITools;
+
+import com.example.AITools.services.RequestCoalescer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RequestCoalescerTests {
+
+    @Test
+    void concurrentLoadsForOneKeyShareTheLeadersResult() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(5_000);
+        RequestCoalescer.Flight<Long, String> flight = coalescer.flight("test");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = callers.submit(() -> flight.load(1L, () -> {
+                loaderCalls.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "value";
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+            Future<String> follower = callers.submit(() -> flight.load(1L, () -> {
+                loaderCalls.incrementAndGet();
+                return "own";
+            }));
+            // the follower registers as collapsed before it starts waiting
+            while (stats(coalescer).get("collapsed").equals(0L)) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loaderCalls.get());
+        assertEquals(1L, stats(coalescer).get("loads"));
+        assertEquals(1L, stats(coalescer).get("collapsed"));
+    }
+
+    @Test
+    void joinReturnsTheInFlightFutureUntilItCompletes() {
+        RequestCoalescer coalescer = new RequestCoalescer(5_000);
+        RequestCoalescer.Flight<String, String> flight = coalescer.flight("test");
+        CompletableFuture<String> load = new CompletableFuture<>();
+
+        CompletableFuture<String> first = flight.join("key", () -> load);
+        CompletableFuture<String> second = flight.join("key", CompletableFuture::new);
+        assertSame(first, second);
+
+        load.complete("value");
+        CompletableFuture<String> third = flight.join("key", () -> CompletableFuture.completedFuture("fresh"));
+        assertEquals("value", second.join());
+        assertEquals("fresh", third.join());
+        assertEquals(2L, stats(coalescer).get("loads"));
+        assertEquals(1L, stats(coalescer).get("collapsed"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> stats(RequestCoalescer coalescer) {
+        return (Map<String, Object>) coalescer.stats().get("test");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
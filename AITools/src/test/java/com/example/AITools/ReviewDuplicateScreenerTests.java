@@ -0,0 +1,76 @@
+package com.example.AITools;
+
+import com.example.AITools.services.ReviewDuplicateScreener;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReviewDuplicateScreenerTests {
+
+    private static final String REVIEW =
+            "The image generator handles product shots well, but upscaling often smears fine text.";
+
+    private final ReviewDuplicateScreener screener = new ReviewDuplicateScreener(null, 0.8, 1_000, 100, 20);
+
+    @Test
+    void nearDuplicateOnTheSameToolIsFound() {
+        screener.add(1L, 10L, "alice", REVIEW);
+
+        Optional<Long> duplicate = screener.findDuplicate(10L, "bob",
+                "The image generator handles product shots well, but upscaling often smears fine text!!");
+
+        assertEquals(Optional.of(1L), duplicate);
+    }
+
+    @Test
+    void differentContentStaysBelowTheThreshold() {
+        screener.add(1L, 10L, "alice", REVIEW);
+
+        assertTrue(screener.findDuplicate(10L, "bob",
+                "Support answered within an hour and the export to PDF finally keeps my slide layout.").isEmpty());
+    }
+
+    @Test
+    void matchesAreScopedToTheToolOrTheUser() {
+        screener.add(1L, 10L, "alice", REVIEW);
+
+        // same text, other tool and other user: legitimately shared wording elsewhere
+        assertTrue(screener.findDuplicate(11L, "bob", REVIEW).isEmpty());
+        // same user pasting the review onto another tool
+        assertEquals(Optional.of(1L), screener.findDuplicate(11L, " Alice ", REVIEW));
+    }
+
+    @Test
+    void shortGenericReviewsAreNotScreened() {
+        screener.add(1L, 10L, "alice", "Great tool, very useful");
+
+        assertTrue(screener.findDuplicate(10L, "bob", "Great tool, very useful").isEmpty());
+    }
+
+    @Test
+    void removedAndEvictedReviewsNoLongerMatch() {
+        ReviewDuplicateScreener small = new ReviewDuplicateScreener(null, 0.8, 1, 100, 20);
+        small.add(1L, 10L, "alice", REVIEW);
+        small.add(2L, 20L, "carol", "Transcription accuracy is excellent on noisy meeting recordings with accents.");
+
+        // capacity 1: the first review was evicted when the second was added
+        assertTrue(small.findDuplicate(10L, "alice", REVIEW).isEmpty());
+
+        small.remove(2L);
+        assertTrue(small.findDuplicate(20L, "carol",
+                "Transcription accuracy is excellent on noisy meeting recordings with accents.").isEmpty());
+    }
+
+    @Test
+    void identicalContentMatchesEvenAtThresholdOne() {
+        ReviewDuplicateScreener strict = new ReviewDuplicateScreener(null, 1.0, 1_000, 100, 20);
+        strict.add(1L, 10L, "alice", REVIEW);
+
+        assertEquals(Optional.of(1L), strict.findDuplicate(10L, "bob", REVIEW.toUpperCase()));
+        assertTrue(strict.findDuplicate(10L, "bob",
+                "The image generator handles product shots well, but upscaling sometimes smears fine text.").isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.AITools;
+
+import com.example.AITools.services.DbCircuitBreaker;
+import com.example.AITools.services.RequestCoalescer;
+import com.example.AITools.services.StaleWhileRevalidateCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StaleWhileRevalidateCacheTests {
+
+    private final AtomicLong clock = new AtomicLong();
+    // opens once 60% of at least 3 calls are bad
+    private final DbCircuitBreaker breaker = new DbCircuitBreaker(60_000, 10, 3, 0.6, 10_000, clock::get);
+    private final StaleWhileRevalidateCache cache =
+            new StaleWhileRevalidateCache(breaker, new RequestCoalescer(2_000), 100, 1_000, 100);
+
+    @Test
+    void failedLoadServesTheLastGoodValue() {
+        assertEquals("v1", cache.read("key", () -> "v1"));
+
+        assertEquals("v1", cache.read("key", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals("v2", cache.read("key", () -> "v2"));
+    }
+
+    @Test
+    void slowLoadServesTheLastGoodValueAndRefreshesInTheBackground() throws Exception {
+        cache.read("key", () -> "v1");
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertEquals("v1", cache.read("key", () -> {
+            await(release);
+            return "v2";
+        }));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String value = "v1";
+        while (!value.equals("v2") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            value = cache.read("key", () -> "v2");
+        }
+        assertEquals("v2", value);
+    }
+
+    @Test
+    void openBreakerServesStaleValuesWithoutLoadingAndRefusesUnknownKeys() {
+        cache.read("key", () -> "v1");
+        failLoad("other");
+        failLoad("other");
+        assertEquals(DbCircuitBreaker.State.OPEN, breaker.stats().get("state"));
+
+        assertEquals("v1", cache.read("key", () -> {
+            throw new AssertionError("must not load while the breaker is open");
+        }));
+        ResponseStatusException refused = assertThrows(ResponseStatusException.class,
+                () -> cache.read("missing", () -> "never"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, refused.getStatusCode());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals("v2", cache.read("key", () -> "v2"));
+        assertEquals(DbCircuitBreaker.State.CLOSED, breaker.stats().get("state"));
+    }
+
+    @Test
+    void hungLoadIsAbandonedAndCountsAsFailure() {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ResponseStatusException abandoned = assertThrows(ResponseStatusException.class,
+                    () -> cache.read("key", () -> {
+                        await(release);
+                        return "late";
+                    }));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, abandoned.getStatusCode());
+            assertEquals(1, breaker.stats().get("recentBadCalls"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void failLoad(String key) {
+        assertThrows(IllegalStateException.class, () -> cache.read(key, () -> {
+            throw new IllegalStateException("database down");
+        }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
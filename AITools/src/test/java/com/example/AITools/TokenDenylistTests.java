@@ -0,0 +1,71 @@
+package com.example.AITools;
+
+import com.example.AITools.services.TokenDenylist;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenDenylistTests {
+
+    private static final long HOUR = 3_600_000;
+
+    private final TokenDenylist denylist = new TokenDenylist(65_536, 4);
+
+    @Test
+    void revokedIdIsRevokedUntilItExpires() {
+        long now = System.currentTimeMillis();
+        denylist.revokeId("live", now + HOUR);
+        denylist.revokeId("expired", now - 1);
+
+        assertTrue(denylist.isRevoked("live", "alice", now));
+        assertFalse(denylist.isRevoked("expired", "alice", now));
+        assertFalse(denylist.isRevoked("other", "alice", now));
+    }
+
+    @Test
+    void subjectRevocationCoversOnlyTokensIssuedUpToIt() {
+        long now = System.currentTimeMillis();
+        denylist.revokeSubject("alice", HOUR);
+
+        assertTrue(denylist.isRevoked("a", "alice", now - HOUR / 2));
+        assertTrue(denylist.isRevoked("b", "alice", now));
+        // a token issued after the revocation, e.g. after logging in again
+        assertFalse(denylist.isRevoked("c", "alice", System.currentTimeMillis() + 1_000));
+        assertFalse(denylist.isRevoked("d", "bob", now));
+    }
+
+    @Test
+    void purgeDropsExpiredEntriesAndKeepsLiveOnes() {
+        long now = System.currentTimeMillis();
+        denylist.revokeId("live", now + HOUR);
+        denylist.revokeId("expired", now - 1);
+        denylist.revokeSubject("gone", 0);
+
+        denylist.purgeExpired();
+
+        assertEquals(1, denylist.stats().get("revokedTokens"));
+        assertEquals(0, denylist.stats().get("revokedSubjects"));
+        // the rebuilt filter still holds the surviving entry
+        assertTrue(denylist.isRevoked("live", "alice", now));
+        assertFalse(denylist.isRevoked("expired", "alice", now));
+    }
+
+    @Test
+    void bloomFalsePositivesAreSettledByTheExactMaps() {
+        // 64 bits and one hash, filled by a few hundred ids: nearly every lookup passes the filter
+        TokenDenylist tiny = new TokenDenylist(64, 1);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 300; i++) {
+            tiny.revokeId("revoked-" + i, now + HOUR);
+        }
+        tiny.revokeSubject("alice", HOUR);
+
+        for (int i = 0; i < 300; i++) {
+            assertTrue(tiny.isRevoked("revoked-" + i, "bob", now));
+            assertFalse(tiny.isRevoked("unrevoked-" + i, "bob", now));
+        }
+        assertFalse(tiny.isRevoked("unrevoked", "carol", now));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.aiToolFinder.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+
+/**
+ * Non-blocking client over the same in-memory H2 database the JPA replica writes to.
+ * The connection factory is deliberately not exposed as a bean, so the JDBC DataSource
+ * used by the sync side stays auto-configured.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveStoreConfig {
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${edge.r2dbc.database:testdb}") String database) {
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory(database)
+                .property("DB_CLOSE_DELAY", "-1")
+                .username("sa")
+                .build());
+        return DatabaseClient.create(connectionFactory);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.aiToolFinder.controller;
 
 import java.util.List;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.aiToolFinder.model.AiTool;
@@ -9,6 +10,7 @@ import com.example.aiToolFinder.service.AIToolService;
 
 @RestController
 @RequestMapping
+@Profile("!reactive")
 public class AIToolController {
 
     private final AIToolService service;
@@ -17,28 +19,9 @@ public class AIToolController {
         this.service = service;
     }
 
-    // User API - get all tools
+    // User API - get all tools (served from the local replica, never from the origin DB)
     @GetMapping("/tools")
     public List<AiTool> getAllTools() {
         return service.getAllTools();
     }
-
-    // Admin API - create tool
-    @PostMapping("/admin/tools")
-    public AiTool createTool(@RequestBody AiTool tool) {
-        return service.createTool(tool);
-    }
-
-    // Admin API - update tool
-    @PutMapping("/admin/tools/{id}")
-    public AiTool updateTool(@PathVariable Long id, @RequestBody AiTool tool) {
-        return service.updateTool(id, tool);
-    }
-
-    // Admin API - delete tool
-    @DeleteMapping("/admin/tools/{id}")
-    public String deleteTool(@PathVariable Long id) {
-        service.deleteTool(id);
-        return "Tool deleted successfully";
-    }
 }
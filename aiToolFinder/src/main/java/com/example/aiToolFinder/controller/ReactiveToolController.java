@@ -0,0 +1,28 @@
+package com.example.aiToolFinder.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import com.example.aiToolFinder.model.AiTool;
+import com.example.aiToolFinder.service.ReactiveToolService;
+
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping
+@Profile("reactive")
+public class ReactiveToolController {
+
+    private final ReactiveToolService service;
+
+    public ReactiveToolController(ReactiveToolService service) {
+        this.service = service;
+    }
+
+    // User API - get all tools, streamed row by row (JSON array, or NDJSON when asked for)
+    @GetMapping(value = "/tools", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<AiTool> getAllTools() {
+        return service.streamAllTools();
+    }
+}
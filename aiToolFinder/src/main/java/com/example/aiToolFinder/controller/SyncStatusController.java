@@ -0,0 +1,24 @@
+package com.example.aiToolFinder.controller;
+
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.*;
+
+import com.example.aiToolFinder.service.AIToolService;
+
+@RestController
+@RequestMapping
+public class SyncStatusController {
+
+    private final AIToolService service;
+
+    public SyncStatusController(AIToolService service) {
+        this.service = service;
+    }
+
+    // Sync status - how far this edge has caught up with the origin change feed
+    @GetMapping("/sync/status")
+    public Map<String, Object> getSyncStatus() {
+        return service.getSyncStatus();
+    }
+}
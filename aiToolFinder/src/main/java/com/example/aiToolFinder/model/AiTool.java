@@ -2,28 +2,39 @@ package com.example.aiToolFinder.model;
 
 import jakarta.persistence.*;
 
+/**
+ * Read-only replica of a tool from the origin AITools catalog.
+ * Ids are the origin's ids, so they are assigned, not generated.
+ */
 @Entity
 public class AiTool {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String name;
+    @Column(length = 4000)
+    private String description;
+    @Column(length = 4000)
     private String useCase;
     private String category;
     private String pricingType;
     private double averageRating;
+    private long changeVersion;
 
     public AiTool() {
     }
 
-    public AiTool(String name, String useCase, String category, String pricingType) {
+    public AiTool(Long id, String name, String description, String useCase, String category,
+                  String pricingType, double averageRating, long changeVersion) {
+        this.id = id;
         this.name = name;
+        this.description = description;
         this.useCase = useCase;
         this.category = category;
         this.pricingType = pricingType;
-        this.averageRating = 0.0;
+        this.averageRating = averageRating;
+        this.changeVersion = changeVersion;
     }
 
     // Getters and Setters
@@ -35,6 +46,10 @@ public class AiTool {
         return name;
     }
 
+    public String getDescription() {
+        return description;
+    }
+
     public String getUseCase() {
         return useCase;
     }
@@ -51,6 +66,10 @@ public class AiTool {
         return averageRating;
     }
 
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -59,6 +78,10 @@ public class AiTool {
         this.name = name;
     }
 
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
     public void setUseCase(String useCase) {
         this.useCase = useCase;
     }
@@ -74,4 +97,8 @@ public class AiTool {
     public void setAverageRating(double averageRating) {
         this.averageRating = averageRating;
     }
+
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.aiToolFinder.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.example.aiToolFinder.model.AiTool;
 
 public interface AiRepository extends JpaRepository<AiTool, Long> {
+    List<AiTool> findAllByOrderByIdAsc();
 }
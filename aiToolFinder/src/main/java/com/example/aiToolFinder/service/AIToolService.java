@@ -1,47 +1,53 @@
 package com.example.aiToolFinder.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.example.aiToolFinder.model.AiTool;
 import com.example.aiToolFinder.repository.AiRepository;
 
+/**
+ * Read-only query side of the edge node. Writes only ever come from CatalogSyncService.
+ * /tools is answered from an immutable list refreshed after each sync that changed
+ * something, so hot reads touch neither the origin nor the local store.
+ */
 @Service
 public class AIToolService {
 
     private final AiRepository repo;
+    private final CatalogSyncService syncService;
 
-    public AIToolService(AiRepository repo) {
-        this.repo = repo;
-    }
+    private volatile List<AiTool> tools = List.of();
 
-    // Create tool
-    public AiTool createTool(AiTool tool) {
-        tool.setAverageRating(0.0);
-        return repo.save(tool);
+    public AIToolService(AiRepository repo, CatalogSyncService syncService) {
+        this.repo = repo;
+        this.syncService = syncService;
     }
 
     // Get all tools
     public List<AiTool> getAllTools() {
-        return repo.findAll();
+        return tools;
     }
 
-    // Update tool
-    public AiTool updateTool(Long id, AiTool updated) {
-        AiTool tool = repo.findById(id)
-                .orElseThrow(() -> new RuntimeException("Tool not found with id: " + id));
-
-        tool.setName(updated.getName());
-        tool.setUseCase(updated.getUseCase());
-        tool.setCategory(updated.getCategory());
-        tool.setPricingType(updated.getPricingType());
-
-        return repo.save(tool);
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${edge.sync.interval-ms:5000}")
+    public void syncAndRefresh() {
+        if (syncService.sync() || tools.isEmpty()) {
+            tools = List.copyOf(repo.findAllByOrderByIdAsc());
+        }
     }
 
-    // Delete tool
-    public void deleteTool(Long id) {
-        repo.deleteById(id);
+    public Map<String, Object> getSyncStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("since", syncService.getSince());
+        status.put("lastSyncMillis", syncService.getLastSyncMillis());
+        status.put("toolCount", tools.size());
+        return status;
     }
 }
@@ -0,0 +1,111 @@
+package com.example.aiToolFinder.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import com.example.aiToolFinder.model.AiTool;
+import com.example.aiToolFinder.repository.AiRepository;
+
+/**
+ * Keeps the local H2 replica in step with the origin catalog by pulling
+ * GET /api/aitools/changes?since=&limit= from the AITools app. Each page is applied
+ * in one local transaction before the cursor moves on.
+ */
+@Service
+public class CatalogSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSyncService.class);
+
+    private final AiRepository repo;
+    private final TransactionTemplate transactionTemplate;
+    private final RestClient originClient;
+    private final int pageSize;
+
+    private final AtomicLong since = new AtomicLong(-1);
+    private volatile long lastSyncMillis;
+
+    public CatalogSyncService(AiRepository repo,
+                              TransactionTemplate transactionTemplate,
+                              RestClient.Builder restClientBuilder,
+                              @Value("${edge.origin.base-url:http://localhost:8080}") String originBaseUrl,
+                              @Value("${edge.sync.page-size:500}") int pageSize) {
+        this.repo = repo;
+        this.transactionTemplate = transactionTemplate;
+        this.originClient = restClientBuilder.baseUrl(originBaseUrl).build();
+        this.pageSize = pageSize;
+    }
+
+    // Shapes of the origin's /api/aitools/changes response
+    record OriginTool(Long id, String name, String decription, String usecases, String category,
+                      String pricingtype, double rating, long changeVersion) {
+    }
+
+    record OriginDelete(Long id, long changeVersion) {
+    }
+
+    record ChangesPage(List<OriginTool> upserted, List<OriginDelete> deleted, long nextSince, boolean hasMore) {
+    }
+
+    /**
+     * Pull pages until the origin reports nothing more. Returns true when anything changed locally.
+     */
+    public synchronized boolean sync() {
+        boolean changed = false;
+        try {
+            while (true) {
+                ChangesPage page = originClient.get()
+                        .uri(uri -> uri.path("/api/aitools/changes")
+                                .queryParam("since", since.get())
+                                .queryParam("limit", pageSize)
+                                .build())
+                        .retrieve()
+                        .body(ChangesPage.class);
+                if (page == null) {
+                    break;
+                }
+                changed |= apply(page);
+                since.set(page.nextSince());
+                if (!page.hasMore()) {
+                    break;
+                }
+            }
+            lastSyncMillis = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            // origin unreachable: keep serving the replica as it is and retry next round
+            log.warn("Catalog sync from origin failed: {}", e.getMessage());
+        }
+        return changed;
+    }
+
+    private boolean apply(ChangesPage page) {
+        if (page.upserted().isEmpty() && page.deleted().isEmpty()) {
+            return false;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<AiTool> tools = new ArrayList<>(page.upserted().size());
+            for (OriginTool origin : page.upserted()) {
+                tools.add(new AiTool(origin.id(), origin.name(), origin.decription(), origin.usecases(),
+                        origin.category(), origin.pricingtype(), origin.rating(), origin.changeVersion()));
+            }
+            repo.saveAll(tools);
+            repo.deleteAllByIdInBatch(page.deleted().stream().map(OriginDelete::id).toList());
+        });
+        return true;
+    }
+
+    public long getSince() {
+        return since.get();
+    }
+
+    public long getLastSyncMillis() {
+        return lastSyncMillis;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.aiToolFinder.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+
+import com.example.aiToolFinder.model.AiTool;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+
+@Service
+@Profile("reactive")
+public class ReactiveToolService {
+
+    private static final String SELECT_ALL = """
+            SELECT id, name, description, use_case, category, pricing_type, average_rating, change_version
+            FROM ai_tool
+            ORDER BY id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveToolService(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // Rows are pulled from the driver only as fast as the HTTP connection drains them
+    public Flux<AiTool> streamAllTools() {
+        return databaseClient.sql(SELECT_ALL)
+                .map(ReactiveToolService::toTool)
+                .all();
+    }
+
+    private static AiTool toTool(Readable row) {
+        return new AiTool(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("use_case", String.class),
+                row.get("category", String.class),
+                row.get("pricing_type", String.class),
+                row.get("average_rating", Double.class),
+                row.get("change_version", Long.class));
+    }
+}
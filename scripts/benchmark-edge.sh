@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Compares the blocking (servlet + JPA) and reactive (WebFlux + R2DBC) serving modes of the
+# aiToolFinder edge under the same concurrent load on GET /tools. For each mode it reports the latency
+# percentiles from `hey` plus the peak number of established connections and live JVM threads.
+# Needs `hey` (https://github.com/rakyll/hey) on PATH and the origin running so the replica is populated.
+# Usage: scripts/benchmark-edge.sh [concurrency] [requests]
+# No results are recorded yet. The run needs JDK 21, the origin with its MySQL instance, and hey,
+# and none of these were available in the environment where the reactive mode was added.
+# Until a measured run shows otherwise, the reactive mode is not known to beat the blocking default.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CONCURRENCY="${1:-512}"
+REQUESTS="${2:-50000}"
+URL="http://localhost:8081/tools"
+JAR_NAME="aiToolFinder-0.0.1-SNAPSHOT.jar"
+
+command -v hey > /dev/null || { echo "hey is required on PATH" >&2; exit 1; }
+[ -f "aiToolFinder/target/$JAR_NAME" ] || ./mvnw -B -pl aiToolFinder -DskipTests package
+
+run() {
+    local label="$1"; shift
+    java "$@" -jar "aiToolFinder/target/$JAR_NAME" > /dev/null 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "$URL"; do sleep 0.2; done
+    curl -sf -o /dev/null "$URL"   # one warm request before measuring
+
+    local peak_conns=0 peak_threads=0
+    hey -n "$REQUESTS" -c "$CONCURRENCY" "$URL" > "/tmp/edge-bench-$label.txt" &
+    local hey_pid=$!
+    while kill -0 "$hey_pid" 2>/dev/null; do
+        local conns threads
+        conns=$(ss -Htn state established '( sport = :8081 )' | wc -l)
+        threads=$(ls "/proc/$pid/task" | wc -l)
+        ((conns > peak_conns)) && peak_conns=$conns
+        ((threads > peak_threads)) && peak_threads=$threads
+        sleep 0.1
+    done
+    wait "$hey_pid" || true
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+
+    echo "== $label: peak established connections $peak_conns, peak JVM threads $peak_threads"
+    grep -E 'Requests/sec|  (50|90|99)% in' "/tmp/edge-bench-$label.txt"
+}
+
+run "blocking"
+run "reactive" -Dspring.profiles.active=reactive
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Builds the AOT-processed jar, runs a CDS training run and starts the app in fast-startup mode.
+# Usage: scripts/fast-startup.sh [build|train|run]   (no argument = all three)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR_NAME="AITools-0.0.1-SNAPSHOT.jar"
+APP_DIR="AITools/target/app"
+JVM_OPTS=(-Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup)
+
+build() {
+    ./mvnw -B -pl AITools -Pfast-startup -DskipTests package
+    rm -rf "$APP_DIR"
+    java -Djarmode=tools -jar "AITools/target/$JAR_NAME" extract --destination "$APP_DIR"
+}
+
+train() {
+    # Starts the context, refreshes it and exits, dumping every loaded class into the archive
+    (cd "$APP_DIR" && java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh \
+        "${JVM_OPTS[@]}" -jar "$JAR_NAME")
+}
+
+run() {
+    (cd "$APP_DIR" && exec java -XX:SharedArchiveFile=application.jsa "${JVM_OPTS[@]}" -jar "$JAR_NAME")
+}
+
+case "${1:-all}" in
+    build) build ;;
+    train) train ;;
+    run) run ;;
+    all) build; train; run ;;
+    *) echo "usage: $0 [build|train|run]" >&2; exit 1 ;;
+esac
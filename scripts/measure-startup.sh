@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request (process launch -> first 200 from GET /api/aitools)
+# for the default launch and the fast-startup launch. Needs the database from application.properties.
+# Usage: scripts/measure-startup.sh [runs]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS="${1:-5}"
+URL="http://localhost:8080/api/aitools"
+JAR_NAME="AITools-0.0.1-SNAPSHOT.jar"
+
+measure() {
+    local label="$1"; shift
+    local total=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local start end pid
+        start=$(date +%s%N)
+        "$@" > /dev/null 2>&1 &
+        pid=$!
+        until curl -sf -o /dev/null "$URL"; do sleep 0.02; done
+        end=$(date +%s%N)
+        kill "$pid"; wait "$pid" 2>/dev/null || true
+        total=$((total + (end - start) / 1000000))
+    done
+    echo "$label: average time-to-first-request $((total / RUNS)) ms over $RUNS runs"
+}
+
+[ -f "AITools/target/$JAR_NAME" ] || ./mvnw -B -pl AITools -DskipTests package
+[ -f AITools/target/app/application.jsa ] || { scripts/fast-startup.sh build; scripts/fast-startup.sh train; }
+
+measure "default" java -jar "AITools/target/$JAR_NAME"
+measure "fast-startup" bash -c "cd AITools/target/app && exec java -XX:SharedArchiveFile=application.jsa \
+    -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup -jar $JAR_NAME"